@@ -210,7 +210,7 @@ public class ChatController {
     }
 
     @GetMapping("/{id}/messages")
-    @Operation(summary = "채팅방 이전 메시지 불러오는 API", description = "메인 채팅방 이전 메시지들을 불러와 이전 메시지 리스트를 반환")
+    @Operation(summary = "채팅방 이전 메시지 불러오는 API", description = "메인 채팅방 이전 메시지들을 불러와 이전 메시지 리스트를 반환 " + "before(messageId) 이전 또는 after(messageId) 이후 메시지를 limit 개씩 반환, 커서가 없으면 최신 메시지 반환 " + "재연결 시 since(마지막으로 받은 messageId) 로 놓친 메시지 요청")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "success",
                     content = {@Content(schema = @Schema(implementation = CommonResponseDto.class))}),
@@ -220,15 +220,27 @@ public class ChatController {
     public ResponseEntity<CommonResponseDto<ChatRoomBeforeMessagesResponseDto>> getBeforeMessages(
             @RequestParam("channelId")
             @Pattern(regexp = "^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$",
-                    message = "Invalid UUID format") String channelId
+                    message = "Invalid UUID format") String channelId,
+            @RequestParam(required = false)
+            @Pattern(regexp = "^[a-fA-F0-9]{24}$",
+                    message = "Invalid messageId format") String before,
+            @RequestParam(required = false)
+            @Pattern(regexp = "^[a-fA-F0-9]{24}$",
+                    message = "Invalid messageId format") String after,
+            @RequestParam(required = false)
+            @Pattern(regexp = "^[a-fA-F0-9]{24}$",
+                    message = "Invalid messageId format") String since,
+            @RequestParam(defaultValue = "50") @Min(value = 1,message = "최소 1부터 limit 요청이 가능합니다.") @Max(value = 100, message = "최대 100까지 limit 요청이 가능합니다.") int limit
     ) {
-        ChatRoomBeforeMessagesResponseDto responseDto = chatRoomService.getBeforeMessages(channelId);
+        ChatRoomBeforeMessagesResponseDto responseDto = since != null
+                ? chatRoomService.replayMessages(channelId, since, limit)
+                : chatRoomService.getBeforeMessages(channelId, before, after, limit);
 
         return new ResponseEntity<>(CommonResponseDto.success(responseDto), HttpStatus.OK);
     }
 
     @PostMapping("/{id}/start")
-    @Operation(summary = "채팅방 시작하기 API", description = "채팅방 시작하기 : /topic/progress.{id} 으로 미리 구독 후 성공시 해당 API 요청")
+    @Operation(summary = "채팅방 시작하기 API", description = "채팅방 시작하기 : /topic/progress.{id} 으로 미리 구독 후 성공시 해당 API 요청 " + "progressMode 가 DEADLINE 이면 단계 시작 시 마감 시각(deadline)만 전송되므로 클라이언트에서 카운트다운해주세요 (기본값 TICK)")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "success",
                     content = {@Content(schema = @Schema(implementation = CommonResponseDto.CommonResponseSuccessDto.class))}),
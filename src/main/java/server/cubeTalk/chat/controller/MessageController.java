@@ -12,13 +12,13 @@ import org.springframework.messaging.handler.annotation.SendTo;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.simp.SimpMessageSendingOperations;
 import org.springframework.stereotype.Controller;
+import server.cubeTalk.chat.handler.ParticipantsBroadcastCoalescer;
+import server.cubeTalk.chat.handler.RecentMessageBuffer;
 import server.cubeTalk.chat.handler.SubscriptionManager;
 import server.cubeTalk.chat.model.dto.*;
 import server.cubeTalk.chat.repository.ChatRoomRepository;
 import server.cubeTalk.chat.service.ChatRoomService;
-import server.cubeTalk.common.dto.CommonResponseDto;
 
-import java.util.List;
 
 
 @Controller
@@ -28,6 +28,8 @@ public class MessageController {
 
     private final ChatRoomService chatRoomService;
     private final SubscriptionManager subscriptionManager;
+    private final RecentMessageBuffer recentMessageBuffer;
+    private final ParticipantsBroadcastCoalescer participantsBroadcastCoalescer;
 
     /*
       /pub/메세지 발행
@@ -52,13 +54,14 @@ public class MessageController {
         log.info("메시지 받기 ");
 
         ChatRoomSendMessageResponseDto responseDto = chatRoomService.sendChatMessage(channelId,RequestDto);
+        // 재연결 시 놓친 메시지를 바로 보내줄 수 있도록 최근 메시지 보관
+        recentMessageBuffer.add(channelId, responseDto);
 
         return responseDto;
     }
 
     @MessageMapping("/{id}/ready")
-    @SendTo("/topic/{id}.participants.list")
-    public CommonResponseDto<List<ChatRoomParticipantsListResponseDto>> sendParticipantsList(
+    public void sendParticipantsList(
             @DestinationVariable
             @Pattern(regexp = "^[a-fA-F0-9]{24}$",
                     message = "Invalid UUID format")
@@ -71,9 +74,26 @@ public class MessageController {
             throw new IllegalArgumentException("구독되지 않은 채널에 메시지를 발행할 수 없습니다.");
         }
 
-        List<ChatRoomParticipantsListResponseDto> responseDto = chatRoomService.sendParticipantsList(id,chatRoomReadyStatusRequestDto);
+        // 변경된 참여자 목록은 /topic/{id}.participants.list 로 합쳐서 전송됨
+        chatRoomService.sendParticipantsList(id,chatRoomReadyStatusRequestDto);
+    }
+
+    /* 참여자 변경 이벤트 버전이 건너뛴 경우 전체 참여자 목록 요청 (DELTA 모드) */
+    @MessageMapping("/{id}/participants.snapshot")
+    public void sendParticipantsSnapshot(
+            @DestinationVariable
+            @Pattern(regexp = "^[a-fA-F0-9]{24}$",
+                    message = "Invalid UUID format")
+            String id,
+            SimpMessageHeaderAccessor headerAccessor) {
+        String sessionId = headerAccessor.getSessionId();
+
+        // 구독 상태 검증
+        if (!subscriptionManager.isSubscribed(sessionId, id + ".participants.list")) {
+            throw new IllegalArgumentException("구독되지 않은 채널에 메시지를 발행할 수 없습니다.");
+        }
 
-        return CommonResponseDto.success(responseDto);
+        participantsBroadcastCoalescer.request(id);
     }
 
     @MessageMapping("/{id}/vote")
@@ -91,7 +111,7 @@ public class MessageController {
         }
         subscriptionManager.printSubscriptions();
 
-        chatRoomService.voteChat(id,chatRoomVotesRequestDto);
+        chatRoomService.voteChat(id,chatRoomVotesRequestDto, sessionId);
     }
 
 
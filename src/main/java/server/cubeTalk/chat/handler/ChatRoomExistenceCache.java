@@ -0,0 +1,138 @@
+package server.cubeTalk.chat.handler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import server.cubeTalk.chat.model.entity.ChatRoom;
+import server.cubeTalk.chat.model.entity.SubChatRoom;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/*
+ * 구독 시 채팅방 존재 여부 + 채널 구성(메인 channelId, 서브 채널 id) 확인용 캐시
+ * 채널 구성은 참가, 퇴장, 팀 변경으로 바뀌지 않으므로 참가자 상태 캐시(ChatRoomStateCache)와 따로 보관 (참가 시 evict 되지 않음)
+ * 조회는 채널 필드만 projection 으로 읽음 (채팅방 document 전체를 읽지 않음)
+ * 존재하는 채팅방은 길게, 존재하지 않는 채팅방은 짧게 보관 (다른 노드에서 생성 / 삭제된 경우 만료 후 반영)
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class ChatRoomExistenceCache {
+
+    // 캐시에 없는 서브 채널로 구독할 때 다시 조회하는 최소 간격 (임의의 채널로 구독해 db 조회를 반복시키지 않도록)
+    private static final long RELOAD_INTERVAL_MS = 1000;
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${chat.cache.room-exists.max-size:50000}")
+    private int maxSize;
+
+    @Value("${chat.cache.room-exists.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    @Value("${chat.cache.room-exists.negative-ttl-seconds:10}")
+    private long negativeTtlSeconds;
+
+    // 채팅방 id -> 채널 구성 (없는 채팅방이면 null) + 만료 시각
+    private final ConcurrentHashMap<String, CachedLayout> layoutMap = new ConcurrentHashMap<>();
+
+    /* 채팅방 존재 여부 (캐시에 없거나 만료된 경우에만 조회) */
+    public boolean exists(String id) {
+        return findLayout(id) != null;
+    }
+
+    /* 채팅방 채널 구성, 존재하지 않는 채팅방이면 null */
+    public RoomLayout findLayout(String id) {
+        CachedLayout cached = layoutMap.get(id);
+        if (cached != null && !cached.isExpired()) {
+            return cached.layout();
+        }
+        return load(id);
+    }
+
+    /*
+     * 채팅방의 메인 또는 서브 채널인지 확인
+     * 캐시에 없는 서브 채널이면 이전에 생성된 채팅방에 서브 채팅방이 추가되었을 수 있으므로 최소 간격이 지났을 때만 한 번 다시 조회
+     */
+    public boolean isChannelOf(String id, String channelId) {
+        CachedLayout cached = layoutMap.get(id);
+        RoomLayout layout = cached != null && !cached.isExpired() ? cached.layout() : load(id);
+        if (layout == null) return false;
+        if (layout.hasChannel(channelId)) return true;
+
+        CachedLayout latest = layoutMap.get(id);
+        if (latest != null && latest.loadedAt() + RELOAD_INTERVAL_MS > System.currentTimeMillis()) {
+            return false;
+        }
+        RoomLayout reloaded = load(id);
+        return reloaded != null && reloaded.hasChannel(channelId);
+    }
+
+    /* 채팅방 생성 시 호출 */
+    public void markCreated(ChatRoom chatRoom) {
+        put(chatRoom.getId(), RoomLayout.from(chatRoom));
+    }
+
+    /* 채팅방 삭제 시 호출 */
+    public void markDeleted(String id) {
+        put(id, null);
+    }
+
+    /* 만료된 항목 정리 */
+    @Scheduled(fixedDelayString = "${chat.cache.room-exists.cleanup-interval-ms:60000}")
+    public void evictExpired() {
+        layoutMap.entrySet().removeIf(entry -> entry.getValue().isExpired());
+    }
+
+    private RoomLayout load(String id) {
+        Query query = Query.query(Criteria.where("_id").is(id));
+        query.fields().include("channelId", "subChatRooms.subChannelId", "subChatRooms.type");
+        ChatRoom chatRoom = mongoTemplate.findOne(query, ChatRoom.class);
+        RoomLayout layout = chatRoom == null ? null : RoomLayout.from(chatRoom);
+        put(id, layout);
+        return layout;
+    }
+
+    private void put(String id, RoomLayout layout) {
+        long now = System.currentTimeMillis();
+        long ttlMillis = (layout != null ? ttlSeconds : negativeTtlSeconds) * 1000;
+        layoutMap.put(id, new CachedLayout(layout, now, now + ttlMillis));
+
+        if (layoutMap.size() > maxSize) {
+            evictExpired();
+            // 만료된 항목을 지워도 넘치면 전부 비우고 다시 채움 (정확도에는 영향 없음)
+            if (layoutMap.size() > maxSize) {
+                log.info("채팅방 채널 구성 캐시 용량 초과로 {}개 제거", layoutMap.size());
+                layoutMap.clear();
+            }
+        }
+    }
+
+    /* 채팅방 채널 구성 (메인 channelId, 서브 채널 id) */
+    public record RoomLayout(String channelId, Set<String> subChannelIds) {
+
+        static RoomLayout from(ChatRoom chatRoom) {
+            Set<String> subChannelIds = chatRoom.getSubChatRooms() == null ? Set.of() : chatRoom.getSubChatRooms().stream()
+                    .map(SubChatRoom::getSubChannelId)
+                    .collect(Collectors.toUnmodifiableSet());
+            return new RoomLayout(chatRoom.getChannelId(), subChannelIds);
+        }
+
+        public boolean hasChannel(String channelId) {
+            return channelId.equals(this.channelId) || subChannelIds.contains(channelId);
+        }
+    }
+
+    private record CachedLayout(RoomLayout layout, long loadedAt, long expiresAt) {
+        boolean isExpired() {
+            return expiresAt < System.currentTimeMillis();
+        }
+    }
+}
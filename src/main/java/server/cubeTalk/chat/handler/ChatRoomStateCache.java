@@ -0,0 +1,203 @@
+package server.cubeTalk.chat.handler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import server.cubeTalk.chat.model.entity.ChatRoom;
+import server.cubeTalk.chat.model.entity.Participant;
+import server.cubeTalk.chat.model.entity.SubChatRoom;
+import server.cubeTalk.chat.repository.ChatRoomRepository;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/* 채팅 메시지 처리 시 매번 채팅방 document 를 읽지 않도록 채팅방 상태를 메모리에 보관 */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class ChatRoomStateCache {
+
+    private final ChatRoomRepository chatRoomRepository;
+
+    @Value("${chat.cache.room-state.max-size:10000}")
+    private int maxSize;
+
+    @Value("${chat.cache.room-state.ttl-seconds:30}")
+    private long ttlSeconds;
+
+    @Value("${chat.cache.room-state.nickname-reload-interval-ms:1000}")
+    private long nickNameReloadIntervalMs;
+
+    // 채팅방 id -> 채팅방 상태
+    private final ConcurrentHashMap<String, CachedRoomState> roomStateMap = new ConcurrentHashMap<>();
+    // 채팅방 id -> 마지막 evict 시각 (evict 전에 시작된 조회 결과가 캐시에 다시 들어가지 않도록)
+    private final ConcurrentHashMap<String, Long> evictedAtMap = new ConcurrentHashMap<>();
+    // 채팅방 id -> 캐시에 없는 닉네임으로 마지막으로 다시 읽은 시각 (없는 닉네임 요청이 반복돼도 채팅방마다 주기당 한 번만 db 조회)
+    private final ConcurrentHashMap<String, Long> nickNameReloadedAtMap = new ConcurrentHashMap<>();
+
+    /* 채팅방 상태 조회 (캐시에 없거나 만료된 경우에만 db 조회) */
+    public RoomState get(String id) {
+        CachedRoomState cached = roomStateMap.get(id);
+        if (cached != null && !cached.isExpired()) {
+            return cached.state();
+        }
+
+        long loadStartedAt = System.nanoTime();
+        ChatRoom chatRoom = chatRoomRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("해당 채팅방이 존재하지 않습니다."));
+        Long evictedAt = evictedAtMap.get(id);
+        if (evictedAt != null && evictedAt - loadStartedAt >= 0) {
+            // 조회 중에 변경되어 evict 된 경우 캐시하지 않고 이번 조회에만 사용
+            return RoomState.from(chatRoom);
+        }
+        return put(chatRoom);
+    }
+
+    /*
+     * 닉네임 확인용 조회
+     * 캐시에 없는 닉네임이면 다른 노드에서 참가했을 수 있으므로 다시 읽음
+     * 캐시는 비우지 않고, 다시 읽은 참가자 목록이 더 최신 버전일 때만 교체
+     */
+    public RoomState getForNickName(String id, String nickName) {
+        RoomState state = get(id);
+        if (nickName == null || state.hasNickName(nickName) || !tryClaimNickNameReload(id)) {
+            return state;
+        }
+
+        long loadStartedAt = System.nanoTime();
+        RoomState reloaded = RoomState.from(chatRoomRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("해당 채팅방이 존재하지 않습니다.")));
+        Long evictedAt = evictedAtMap.get(id);
+        if (evictedAt != null && evictedAt - loadStartedAt >= 0) {
+            return reloaded;
+        }
+        return store(reloaded, true);
+    }
+
+    /* 채팅방마다 nickname-reload-interval-ms 에 한 번만 다시 읽도록 제한 */
+    private boolean tryClaimNickNameReload(String id) {
+        long now = System.currentTimeMillis();
+        boolean[] claimed = new boolean[1];
+        nickNameReloadedAtMap.compute(id, (key, reloadedAt) -> {
+            if (reloadedAt != null && now - reloadedAt < nickNameReloadIntervalMs) {
+                return reloadedAt;
+            }
+            claimed[0] = true;
+            return now;
+        });
+        return claimed[0];
+    }
+
+    /* 최신 채팅방 정보로 캐시 갱신 */
+    public RoomState put(ChatRoom chatRoom) {
+        return store(RoomState.from(chatRoom), false);
+    }
+
+    /* onlyIfNewer 이면 캐시된 참가자 목록과 같은 버전일 때도 덮어쓰지 않음 */
+    private RoomState store(RoomState state, boolean onlyIfNewer) {
+        CachedRoomState current = roomStateMap.compute(state.id(), (id, cached) -> {
+            // 이미 더 최신 버전의 참가자 목록이 캐시되어 있으면 덮어쓰지 않음
+            if (cached != null && !cached.isExpired()) {
+                long cachedVersion = cached.state().participantsVersion();
+                if (cachedVersion > state.participantsVersion() || (onlyIfNewer && cachedVersion == state.participantsVersion())) {
+                    return cached;
+                }
+            }
+            return new CachedRoomState(state, System.currentTimeMillis() + ttlSeconds * 1000);
+        });
+        if (current.state() != state) {
+            return current.state();
+        }
+
+        if (roomStateMap.size() > maxSize) {
+            evictOverflow();
+        }
+        return state;
+    }
+
+    /* 참가, 퇴장, 팀 변경, 상태 변경 시 호출하여 다음 조회 때 다시 읽도록 함 */
+    public void evict(String id) {
+        evictedAtMap.put(id, System.nanoTime());
+        roomStateMap.remove(id);
+    }
+
+    /* 만료된 채팅방 상태 정리 */
+    @Scheduled(fixedDelayString = "${chat.cache.room-state.cleanup-interval-ms:60000}")
+    public void evictExpired() {
+        roomStateMap.forEach((id, cached) -> {
+            if (cached.isExpired()) {
+                evict(id);
+            }
+        });
+        // 진행중인 조회보다 충분히 오래된 evict 기록 정리
+        long before = System.nanoTime() - TimeUnit.MINUTES.toNanos(1);
+        evictedAtMap.values().removeIf(evictedAt -> evictedAt - before < 0);
+        long reloadBefore = System.currentTimeMillis() - nickNameReloadIntervalMs;
+        nickNameReloadedAtMap.values().removeIf(reloadedAt -> reloadedAt < reloadBefore);
+    }
+
+    private void evictOverflow() {
+        evictExpired();
+        int overflow = roomStateMap.size() - maxSize;
+        if (overflow <= 0) return;
+
+        // 만료 시각이 가장 빠른 (가장 오래전에 갱신된) 채팅방부터 제거
+        roomStateMap.entrySet().stream()
+                .sorted(Comparator.comparingLong(entry -> entry.getValue().expiresAt()))
+                .limit(overflow)
+                .map(Map.Entry::getKey)
+                .toList()
+                .forEach(this::evict);
+        log.info("채팅방 상태 캐시 용량 초과로 {}개 제거", overflow);
+    }
+
+    private record CachedRoomState(RoomState state, long expiresAt) {
+        boolean isExpired() {
+            return expiresAt < System.currentTimeMillis();
+        }
+    }
+
+    /* 메시지 전송 검증에 필요한 채팅방 상태 + 참가자 인덱스 (nickName -> 참가자) */
+    public record RoomState(String id, String channelId, String chatMode, String chatStatus,
+                            long participantsVersion,
+                            int participantCount,
+                            Map<String, String> subChannelTypes,
+                            Map<String, Participant> participantsByNickName) {
+
+        public static RoomState from(ChatRoom chatRoom) {
+            Map<String, String> subChannelTypes = new HashMap<>();
+            for (SubChatRoom subChatRoom : chatRoom.getSubChatRooms()) {
+                subChannelTypes.put(subChatRoom.getSubChannelId(), subChatRoom.getType());
+            }
+
+            Map<String, Participant> participantsByNickName = new HashMap<>();
+            for (Participant participant : chatRoom.getParticipants()) {
+                if (participant.getNickName() != null) {
+                    participantsByNickName.put(participant.getNickName(), participant);
+                }
+            }
+
+            return new RoomState(chatRoom.getId(), chatRoom.getChannelId(), chatRoom.getChatMode(), chatRoom.getChatStatus(),
+                    chatRoom.getParticipantsVersion(),
+                    chatRoom.getParticipants().size(),
+                    Collections.unmodifiableMap(subChannelTypes),
+                    Collections.unmodifiableMap(participantsByNickName));
+        }
+
+        public Participant findByNickName(String nickName) {
+            return nickName == null ? null : participantsByNickName.get(nickName);
+        }
+
+        public boolean hasNickName(String nickName) {
+            return findByNickName(nickName) != null;
+        }
+
+        /* 서브 채팅방 channelId 와 type 이 일치하는지 확인 */
+        public boolean isSubChannel(String subChannelId, String type) {
+            return type != null && type.equals(subChannelTypes.get(subChannelId));
+        }
+    }
+}
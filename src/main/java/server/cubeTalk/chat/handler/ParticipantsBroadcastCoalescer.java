@@ -0,0 +1,165 @@
+package server.cubeTalk.chat.handler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import server.cubeTalk.chat.model.dto.ChatRoomParticipantsEventResponseDto;
+import server.cubeTalk.chat.model.dto.ChatRoomParticipantsEventResponseDto.ParticipantEvent;
+import server.cubeTalk.chat.model.dto.ChatRoomParticipantsListResponseDto;
+import server.cubeTalk.chat.model.entity.ChatRoom;
+import server.cubeTalk.chat.model.entity.Participant;
+import server.cubeTalk.common.dto.CommonResponseDto;
+import server.cubeTalk.common.util.HashedWheelTimer;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 참여자 목록 전송 합치기
+ * 참가, 퇴장, 팀 변경, 준비 상태 변경마다 바로 보내지 않고 채팅방별로 window 동안 모았다가 한 번만 전송
+ * SNAPSHOT 모드 : 전송 시점의 전체 참여자 목록 (기존 형식)
+ * DELTA 모드 : window 동안의 변경 이벤트만 버전 순으로 전송, 스냅샷 요청이 있으면 버전이 포함된 전체 목록 전송
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class ParticipantsBroadcastCoalescer {
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final MongoTemplate mongoTemplate;
+    private final HashedWheelTimer roomTimer;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${chat.participants.broadcast-window-ms:100}")
+    private long windowMs;
+
+    @Value("${chat.participants.broadcast-mode:SNAPSHOT}")
+    private String broadcastMode;
+
+    // 전송 대기중인 채팅방 id -> window 동안 모인 변경 (compute 안에서만 변경, 전송 시 통째로 제거)
+    private final ConcurrentHashMap<String, PendingBroadcast> pendingRooms = new ConcurrentHashMap<>();
+
+    private Counter requestedCounter;
+    private Counter sentCounter;
+    private Counter suppressedCounter;
+
+    @PostConstruct
+    public void init() {
+        requestedCounter = Counter.builder("chat.participants.broadcast.requested")
+                .description("참여자 목록 전송 요청 수")
+                .register(meterRegistry);
+        sentCounter = Counter.builder("chat.participants.broadcast.sent")
+                .description("실제로 전송된 참여자 목록 수")
+                .register(meterRegistry);
+        suppressedCounter = Counter.builder("chat.participants.broadcast.suppressed")
+                .description("다른 요청과 합쳐져 전송되지 않은 참여자 목록 수")
+                .register(meterRegistry);
+    }
+
+    /* 전체 참여자 목록 전송 요청, window 안에 이미 대기중인 전송이 있으면 합쳐짐 */
+    public void request(String id) {
+        enqueue(id, null);
+    }
+
+    /*
+     * 참여자 변경 이벤트 전송 요청 (type : JOINED, LEFT, ROLE_CHANGED, STATUS_CHANGED)
+     * chatRoom 은 변경이 반영된 (버전이 증가된) 채팅방
+     */
+    public void publish(ChatRoom chatRoom, String type, Participant participant) {
+        if (!isDeltaMode()) {
+            request(chatRoom.getId());
+            return;
+        }
+        enqueue(chatRoom.getId(), new ParticipantEvent(type, chatRoom.getParticipantsVersion(), toResponse(participant)));
+    }
+
+    private void enqueue(String id, ParticipantEvent event) {
+        requestedCounter.increment();
+        boolean[] isFirst = new boolean[1];
+        pendingRooms.compute(id, (key, pending) -> {
+            if (pending == null) {
+                pending = new PendingBroadcast();
+                isFirst[0] = true;
+            } else {
+                suppressedCounter.increment();
+            }
+            if (event == null) {
+                pending.snapshot = true;
+            } else {
+                pending.events.add(event);
+            }
+            return pending;
+        });
+
+        if (!isFirst[0]) return;
+        if (windowMs <= 0) {
+            send(id);
+        } else {
+            roomTimer.newTimeout(() -> send(id), windowMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /* 모인 변경을 한 번에 전송 (전송 중 들어온 요청은 다음 window 로 넘어감) */
+    private void send(String id) {
+        PendingBroadcast pending = pendingRooms.remove(id);
+        if (pending == null) return;
+
+        String destination = "/topic/" + id + ".participants.list";
+        if (isDeltaMode() && !pending.snapshot) {
+            pending.events.sort(Comparator.comparingLong(ParticipantEvent::version));
+            messagingTemplate.convertAndSend(destination, CommonResponseDto.success(ChatRoomParticipantsEventResponseDto.delta(pending.events)));
+            sentCounter.increment();
+            return;
+        }
+
+        // 스냅샷은 전송 시점의 최신 참여자 목록으로 전송 (함께 모인 변경 이벤트는 스냅샷에 포함됨)
+        // 채팅방 document 전체가 아닌 참여자 목록과 버전만 조회
+        Query query = Query.query(Criteria.where("id").is(id));
+        query.fields().include("participants", "participantsVersion");
+        ChatRoom chatRoom = mongoTemplate.findOne(query, ChatRoom.class);
+        if (chatRoom == null) {
+            log.debug("삭제된 채팅방 {} 의 참여자 목록 전송 생략", id);
+            return;
+        }
+
+        List<ChatRoomParticipantsListResponseDto> responseDto = chatRoom.getParticipants().stream()
+                .map(this::toResponse)
+                .toList();
+
+        if (isDeltaMode()) {
+            messagingTemplate.convertAndSend(destination, CommonResponseDto.success(
+                    ChatRoomParticipantsEventResponseDto.snapshot(chatRoom.getParticipantsVersion(), responseDto)));
+        } else {
+            messagingTemplate.convertAndSend(destination, CommonResponseDto.success(responseDto));
+        }
+        sentCounter.increment();
+    }
+
+    private ChatRoomParticipantsListResponseDto toResponse(Participant participant) {
+        return new ChatRoomParticipantsListResponseDto(
+                participant.getNickName(),
+                participant.getRole(),
+                participant.getStatus()
+        );
+    }
+
+    private boolean isDeltaMode() {
+        return "DELTA".equalsIgnoreCase(broadcastMode);
+    }
+
+    private static class PendingBroadcast {
+        private final List<ParticipantEvent> events = new ArrayList<>();
+        private boolean snapshot;
+    }
+}
@@ -0,0 +1,98 @@
+package server.cubeTalk.chat.handler;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import server.cubeTalk.chat.model.dto.ChatRoomSendMessageResponseDto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * 재연결 시 놓친 메시지를 보내주기 위한 채널별 최근 메시지 버퍼
+ * 이 노드에서 발행된 메시지만 가지므로 다른 노드에서 발행된 메시지가 빠져 있을 수 있음 (사용하는 쪽에서 공백 확인 필요)
+ */
+@Component
+@Log4j2
+public class RecentMessageBuffer {
+
+    @Value("${chat.message.recent-buffer.size:200}")
+    private int capacity;
+
+    @Value("${chat.message.recent-buffer.idle-seconds:1800}")
+    private long idleSeconds;
+
+    // channelId -> 최근 메시지 링버퍼
+    private final ConcurrentHashMap<String, Ring> ringMap = new ConcurrentHashMap<>();
+
+    /* 이 노드에서 발행된 메시지 추가 */
+    public void add(String channelId, ChatRoomSendMessageResponseDto message) {
+        if (capacity <= 0 || message == null) return;
+        ringMap.computeIfAbsent(channelId, k -> new Ring(capacity)).add(message);
+    }
+
+    /* sinceMessageId 이후 메시지 반환, 버퍼에 해당 메시지가 없으면 (버퍼보다 큰 공백) null */
+    public List<ChatRoomSendMessageResponseDto> findSince(String channelId, String sinceMessageId) {
+        Ring ring = ringMap.get(channelId);
+        if (ring == null) return null;
+        return ring.since(sinceMessageId);
+    }
+
+    public void remove(String channelId) {
+        ringMap.remove(channelId);
+    }
+
+    /* 채팅방 삭제, 진행 종료 시 메인, 서브 채널 버퍼 제거 */
+    public void removeRoom(ChatRoomExistenceCache.RoomLayout layout) {
+        if (layout == null) return;
+        remove(layout.channelId());
+        layout.subChannelIds().forEach(this::remove);
+    }
+
+    /* 오랫동안 메시지가 없는 채널 버퍼 정리 */
+    @Scheduled(fixedDelayString = "${chat.message.recent-buffer.cleanup-interval-ms:300000}")
+    public void evictIdle() {
+        long idleBefore = System.currentTimeMillis() - idleSeconds * 1000;
+        ringMap.entrySet().removeIf(entry -> entry.getValue().lastWrittenAt() < idleBefore);
+    }
+
+    private static class Ring {
+        private final ChatRoomSendMessageResponseDto[] items;
+        private int next; // 다음에 쓸 위치
+        private int size;
+        private volatile long lastWrittenAt = System.currentTimeMillis();
+
+        Ring(int capacity) {
+            this.items = new ChatRoomSendMessageResponseDto[capacity];
+        }
+
+        synchronized void add(ChatRoomSendMessageResponseDto message) {
+            items[next] = message;
+            next = (next + 1) % items.length;
+            if (size < items.length) size++;
+            lastWrittenAt = System.currentTimeMillis();
+        }
+
+        synchronized List<ChatRoomSendMessageResponseDto> since(String sinceMessageId) {
+            int oldest = (next - size + items.length) % items.length;
+            // 최신 메시지부터 거꾸로 찾아 올라감
+            for (int i = size - 1; i >= 0; i--) {
+                ChatRoomSendMessageResponseDto item = items[(oldest + i) % items.length];
+                if (item.getMessageId().equals(sinceMessageId)) {
+                    List<ChatRoomSendMessageResponseDto> result = new ArrayList<>(size - 1 - i);
+                    for (int j = i + 1; j < size; j++) {
+                        result.add(items[(oldest + j) % items.length]);
+                    }
+                    return result;
+                }
+            }
+            return null;
+        }
+
+        long lastWrittenAt() {
+            return lastWrittenAt;
+        }
+    }
+}
@@ -3,30 +3,49 @@ package server.cubeTalk.chat.handler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Component;
-import server.cubeTalk.chat.model.entity.ChatRoom;
-import server.cubeTalk.chat.repository.ChatRoomRepository;
+import server.cubeTalk.chat.service.PresenceService;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.regex.Pattern;
 
 @Component
 @RequiredArgsConstructor
 @Log4j2
 public class SubscriptionManager {
 
-    private final ChatRoomRepository chatRoomRepository;
+    private final PresenceService presenceService;
     // 구독 상태를 관리하는 맵 (세션 ID -> 구독 채널 리스트)
     private final ConcurrentHashMap<String, Set<String>> subscriptionMap = new ConcurrentHashMap<>();
     private final ConcurrentHashMap<String, String> sessionNickNameMap = new ConcurrentHashMap<>();
+    // 세션 ID -> 채팅방 id
+    private final ConcurrentHashMap<String, String> sessionRoomMap = new ConcurrentHashMap<>();
+    // 채팅방 id -> (닉네임 -> 세션 ID), 이 노드에 연결된 채팅방별 참가자 (닉네임은 채팅방 안에서만 유일)
+    private final ConcurrentHashMap<String, ConcurrentHashMap<String, String>> roomPresenceMap = new ConcurrentHashMap<>();
+    // channelId (메인, 서브) -> 채팅방 id, 구독 시 등록하고 채팅방에 접속한 세션이 없어지면 제거 (channelId 로 채팅방을 찾는 유일한 등록부)
+    private final ConcurrentHashMap<String, String> channelRoomMap = new ConcurrentHashMap<>();
+    // 채팅방 id -> 등록된 channelId (채널 등록 정리용)
+    private final ConcurrentHashMap<String, Set<String>> roomChannelsMap = new ConcurrentHashMap<>();
 
     /* 구독 요청이 들어오면 구독 상태를 저장 */
     // 닉네임이 있을 때 사용하는 메서드
-    public void addSubscription(String sessionId, String channelId, String nickName) {
+    public void addSubscription(String sessionId, String channelId, String nickName, String roomId) {
         subscriptionMap.computeIfAbsent(sessionId, k -> new HashSet<>()).add(channelId);
 
         if (nickName != null && !nickName.isEmpty()) {
             sessionNickNameMap.put(sessionId, nickName);
+            if (roomId != null) {
+                String previousRoomId = sessionRoomMap.put(sessionId, roomId);
+                if (previousRoomId != null && !previousRoomId.equals(roomId)) {
+                    leaveRoom(previousRoomId, nickName, sessionId);
+                }
+                if (!roomId.equals(previousRoomId)) {
+                    // 다른 노드에서도 조회할 수 있도록 세션이 채팅방에 처음 구독할 때만 공유 접속 정보에 저장
+                    presenceService.join(roomId, nickName, sessionId);
+                }
+                // 재연결한 경우 새 세션으로 교체
+                roomPresenceMap.computeIfAbsent(roomId, k -> new ConcurrentHashMap<>()).put(nickName, sessionId);
+                registerChannel(roomId, channelId);
+            }
         }
     }
 
@@ -52,62 +71,70 @@ public class SubscriptionManager {
     // 세션이 끊길 때 해당 세션의 모든 구독을 제거
     public void removeSession(String sessionId) {
         subscriptionMap.remove(sessionId);
-        sessionNickNameMap.remove(sessionId);
+        String nickName = sessionNickNameMap.remove(sessionId);
+        String roomId = sessionRoomMap.remove(sessionId);
+        if (nickName != null && roomId != null) {
+            leaveRoom(roomId, nickName, sessionId);
+            presenceService.leave(roomId, sessionId);
+        }
     }
 
-
-    public void printSubscriptions() {
-        subscriptionMap.forEach((sessionId, channels) ->
-                System.out.println("Session: " + sessionId + " -> Channels: " + channels)
-        );
+    /* 채팅방 접속 목록에서 제거 (같은 닉네임으로 이미 재연결한 세션은 남겨둠), 비면 채팅방 항목도 제거 */
+    private void leaveRoom(String roomId, String nickName, String sessionId) {
+        roomPresenceMap.computeIfPresent(roomId, (key, presence) -> {
+            presence.remove(nickName, sessionId);
+            if (presence.isEmpty()) {
+                unregisterChannels(roomId);
+                return null;
+            }
+            return presence;
+        });
     }
 
-    public Set<String> searchUUIDChannels(String sessionId) {
-        Set<String> channels = subscriptionMap.getOrDefault(sessionId, new HashSet<>());
-
-        String uuidPattern = "^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$";
-        Pattern pattern = Pattern.compile(uuidPattern);
+    private void registerChannel(String roomId, String channelId) {
+        channelRoomMap.put(channelId, roomId);
+        roomChannelsMap.computeIfAbsent(roomId, k -> ConcurrentHashMap.newKeySet()).add(channelId);
+    }
 
-        // UUID에 해당하는 채널만 필터링
-        Set<String> uuidChannels = new HashSet<>();
-        for (String channel : channels) {
-            if (pattern.matcher(channel).matches()) {
-                uuidChannels.add(channel);
-            }
+    private void unregisterChannels(String roomId) {
+        Set<String> channelIds = roomChannelsMap.remove(roomId);
+        if (channelIds != null) {
+            channelIds.forEach(channelId -> channelRoomMap.remove(channelId, roomId));
         }
-
-        return uuidChannels;
     }
 
-    public boolean isNickNameInList(List<String> nickNames) {
-        final boolean[] isNickNameFound = {false};
+    /* 세션이 참가중인 채팅방 id (없으면 세션이 구독한 채널로 조회), 없으면 null */
+    public String searchRoomId(String sessionId) {
+        String roomId = sessionRoomMap.get(sessionId);
+        if (roomId != null) return roomId;
 
-        subscriptionMap.forEach((sessionId, channels) -> {
-            String nickName = sessionNickNameMap.get(sessionId); // sessionNickNameMap에서 sessionId로 닉네임 가져오기
-            System.out.println("Session: " + sessionId + " -> Channels: " + channels);
+        Set<String> channels = subscriptionMap.get(sessionId);
+        if (channels == null) return null;
+        for (String channelId : channels) {
+            roomId = channelRoomMap.get(channelId);
+            if (roomId != null) return roomId;
+        }
+        return null;
+    }
 
-            if (nickName != null && !nickName.isEmpty() && nickNames.contains(nickName)) {
-                isNickNameFound[0] = true;
-            }
-        });
 
-        return isNickNameFound[0];
+    public void printSubscriptions() {
+        // 메시지마다 호출되므로 debug 로그가 꺼져 있으면 전체 세션을 순회하지 않음
+        if (!log.isDebugEnabled()) return;
+        subscriptionMap.forEach((sessionId, channels) ->
+                log.debug("Session: {} -> Channels: {}", sessionId, channels)
+        );
     }
 
-    /* 해당 channelId로 구독된 채팅방을 찾는 메서드 */
-    public ChatRoom searchChatRoom(Set<String> channelIds) {
-        for (String channelId : channelIds) {
-            ChatRoom chatRoom = chatRoomRepository.findByChannelId(channelId);
-            if (chatRoom != null) {
-                return chatRoom;
-            }
-        }
-        return null;
+    /* 채팅방 참가자 중 이 노드에 연결된 참가자가 있는지 확인 (채팅방 접속 목록만 확인) */
+    public boolean isNickNameInList(String roomId, List<String> nickNames) {
+        Map<String, String> presence = roomPresenceMap.get(roomId);
+        if (presence == null) return false;
+        return nickNames.stream().anyMatch(nickName -> nickName != null && presence.containsKey(nickName));
     }
 
     /* sessionId로 nicnName 반환하는 메서드 */
     public String searchNickName(String sessionId) {
-        System.out.println(subscriptionMap);
         if (subscriptionMap.containsKey(sessionId)) {
             String nickName = sessionNickNameMap.get(sessionId);
             return nickName;
@@ -115,12 +142,11 @@ public class SubscriptionManager {
         return null;
     }
 
-    /* nickName으로 sessionId를 반환하는 메서드 */
-    public Optional<String> searchSessionIdByNickName(String nickName) {
-        return sessionNickNameMap.entrySet().stream()
-                .filter(entry -> nickName.equals(entry.getValue()))  // nickName이 일치하는지 확인
-                .map(Map.Entry::getKey)  // sessionId 반환
-                .findFirst();  // 첫 번째 일치하는 값만 반환
+    /* 채팅방 id, nickName으로 sessionId를 반환하는 메서드 */
+    public Optional<String> searchSessionIdByNickName(String roomId, String nickName) {
+        if (roomId == null || nickName == null) return Optional.empty();
+        Map<String, String> presence = roomPresenceMap.get(roomId);
+        return presence == null ? Optional.empty() : Optional.ofNullable(presence.get(nickName));
     }
 
 
@@ -5,6 +5,9 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.messaging.handler.annotation.MessageExceptionHandler;
 import org.springframework.messaging.simp.SimpMessageSendingOperations;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
@@ -14,7 +17,6 @@ import org.springframework.web.socket.messaging.SessionDisconnectEvent;
 import org.springframework.web.socket.messaging.SessionSubscribeEvent;
 import server.cubeTalk.chat.model.dto.ChatRoomCommonMessageResponseDto;
 import server.cubeTalk.chat.model.entity.ChatRoom;
-import server.cubeTalk.chat.model.entity.SubChatRoom;
 import server.cubeTalk.chat.repository.ChatRoomRepository;
 import server.cubeTalk.chat.service.WebSocketService;
 import server.cubeTalk.common.dto.CommonResponseDto;
@@ -22,7 +24,6 @@ import server.cubeTalk.common.dto.CommonResponseDto;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
 
 @Component
@@ -34,6 +35,8 @@ public class WebSocketChatEventListener {
     private final ChatRoomRepository chatRoomRepository;
     private final SubscriptionManager subscriptionManager;
     private final WebSocketService webSocketService;
+    private final ChatRoomExistenceCache chatRoomExistenceCache;
+    private final MongoTemplate mongoTemplate;
 
     @EventListener
     public void handleWebSocketConnectListener (SessionConnectedEvent event) {
@@ -61,10 +64,10 @@ public class WebSocketChatEventListener {
 
             } else {
                 // 비정상적인 종료 처리
-                Set<String> channelId = subscriptionManager.searchUUIDChannels(sessionId);
-                log.info("channelId={}", channelId);
-                ChatRoom chatRoom = subscriptionManager.searchChatRoom(channelId);
-                log.info("chatroom={}", chatRoom);
+                // 세션의 채팅방은 구독 시 등록된 정보로 바로 조회 (구독 채널마다 채팅방을 조회하지 않음)
+                String roomId = subscriptionManager.searchRoomId(sessionId);
+                ChatRoom chatRoom = roomId == null ? null : chatRoomRepository.findById(roomId).orElse(null);
+                log.info("chatroom={}", chatRoom == null ? null : chatRoom.getId());
                 String nickName = subscriptionManager.searchNickName(sessionId);
                 if (nickName == null) {
                     throw new IllegalArgumentException("해당 닉네임이 존재하지 않습니다.");
@@ -74,8 +77,10 @@ public class WebSocketChatEventListener {
         } catch (IllegalArgumentException e) {
             log.error("에러 발생: " + e.getMessage());
             throw e;
+        } finally {
+            // 상태 변경에 실패해도 세션의 구독 정보, 공유 접속 정보(presence)는 남기지 않음
+            subscriptionManager.removeSession(sessionId);
         }
-        subscriptionManager.removeSession(sessionId);
     }
 
     @EventListener
@@ -94,32 +99,34 @@ public class WebSocketChatEventListener {
                 String id = headerAccessor.getFirstNativeHeader("chatRoomId");
 
                 if (nickName == null || id == null) throw new IllegalArgumentException("헤더값이 null입니다");
-                ChatRoom chatRoom = chatRoomRepository.findById(id)
-                        .orElseThrow(()-> new IllegalArgumentException("해댕 채팅방이 존재하지않습니다."));
+                // 구독마다 채팅방 document 를 읽지 않도록 캐시된 채널 구성으로 확인 (참가로 무효화되지 않음)
+                ChatRoomExistenceCache.RoomLayout layout = chatRoomExistenceCache.findLayout(id);
+                if (layout == null) throw new IllegalArgumentException("해댕 채팅방이 존재하지않습니다.");
                 log.info("채팅 구독");
 
 
                 if (!subscriptionManager.isSubscribed(sessionId,channelId)) {
-                    subscriptionManager.addSubscription(sessionId, channelId, nickName);
-
-                    boolean isCheckDisconnectedStatus = chatRoom.getParticipants().stream().anyMatch(participant -> participant.getStatus().equals("DISCONNECTED"));
-                    boolean isCheckDisconnectedNickName = chatRoom.getParticipants().stream().anyMatch(participant -> participant.getNickName().equals(nickName));
-
-                    if (isCheckDisconnectedStatus && isCheckDisconnectedNickName) webSocketService.changeReconnectParticipantStatus(chatRoom,nickName);
+                    subscriptionManager.addSubscription(sessionId, channelId, nickName, id);
+
+                    // 연결 끊김 상태는 다른 노드에서 바뀌므로 캐시가 아닌 db 에서 확인
+                    if (isDisconnectedParticipant(id, nickName)) {
+                        // 재연결 처리가 필요한 경우에만 채팅방 조회
+                        ChatRoom chatRoom = chatRoomRepository.findById(id)
+                                .orElseThrow(()-> new IllegalArgumentException("해댕 채팅방이 존재하지않습니다."));
+                        webSocketService.changeReconnectParticipantStatus(chatRoom,nickName);
+                    }
                     log.info("재연결완료");
                     /* 메인 채팅방에 입장하는 경우 */
-                    if (chatRoom.getChannelId().equals(channelId)) {
+                    if (layout.channelId().equals(channelId)) {
 
 
                     }
                     /* 서브 채팅방에 입장하는 경우 */
                     else {
                         try {
-                            chatRoom.getSubChatRooms().stream()
-                                    .filter(subChatRoom -> subChatRoom.getSubChannelId().equals(channelId))
-                                    .findFirst()
-                                    .map(SubChatRoom::getSubChannelId)
-                                    .orElseThrow(() -> new IllegalArgumentException("서브 채팅방이 존재하지 않습니다."));
+                            if (!chatRoomExistenceCache.isChannelOf(id, channelId)) {
+                                throw new IllegalArgumentException("서브 채팅방이 존재하지 않습니다.");
+                            }
 
                         } catch (IllegalArgumentException e) {
                             messageSendingOperations.convertAndSend("/topic/error", CommonResponseDto.CommonResponseSocketErrorDto.error("구독실패",e.getMessage()));
@@ -135,15 +142,17 @@ public class WebSocketChatEventListener {
                 log.info("채팅방 외 구독");
                 if (destination.startsWith("/topic/progress.")) {
                     String id = destination.substring("/topic/progress.".length());
-                    chatRoomRepository.findById(id)
-                            .orElseThrow(() -> new IllegalArgumentException("progress.{id}에 해당하는 해당 채팅방이 존재하지 않습니다."));
+                    if (!chatRoomExistenceCache.exists(id)) {
+                        throw new IllegalArgumentException("progress.{id}에 해당하는 해당 채팅방이 존재하지 않습니다.");
+                    }
                     subscriptionManager.addSubscription(sessionId, channelId);
                 } else if (destination.startsWith("/topic/error")) {
                     subscriptionManager.addSubscription(sessionId, channelId);
                 } else {
                     String id = destination.substring("/topic/".length(), destination.indexOf(".participants.list"));
-                    chatRoomRepository.findById(id)
-                            .orElseThrow(() -> new IllegalArgumentException("참여자 목록 구독에 해당하는 해당 채팅방이 존재하지 않습니다."));
+                    if (!chatRoomExistenceCache.exists(id)) {
+                        throw new IllegalArgumentException("참여자 목록 구독에 해당하는 해당 채팅방이 존재하지 않습니다.");
+                    }
                     subscriptionManager.addSubscription(sessionId, channelId);
                 }
 
@@ -158,6 +167,13 @@ public class WebSocketChatEventListener {
             throw e;
         }
     }
+    /* 해당 닉네임의 참가자가 연결 끊김 상태인지 (참가자 목록을 읽지 않고 존재 여부만 조회) */
+    private boolean isDisconnectedParticipant(String id, String nickName) {
+        Query query = Query.query(Criteria.where("_id").is(id)
+                .and("participants").elemMatch(Criteria.where("nickName").is(nickName).and("status").is("DISCONNECTED")));
+        return mongoTemplate.exists(query, ChatRoom.class);
+    }
+
     @MessageExceptionHandler(IllegalArgumentException.class)
     public void handleException(IllegalArgumentException e) {
         throw e;
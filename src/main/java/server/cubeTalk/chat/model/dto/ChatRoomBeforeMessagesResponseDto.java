@@ -1,5 +1,6 @@
 package server.cubeTalk.chat.model.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -7,8 +8,10 @@ import java.util.List;
 
 @Getter
 @AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class ChatRoomBeforeMessagesResponseDto {
 
     private List<ChatRoomMessages> mainChat;
+    private Boolean hasMore; // 커서 방향으로 더 불러올 메시지가 있는지 여부
 
 }
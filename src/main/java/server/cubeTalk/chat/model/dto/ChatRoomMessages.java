@@ -35,4 +35,17 @@ public class ChatRoomMessages {
                         .build())
                 .collect(Collectors.toList());
     }
+
+    public static List<ChatRoomMessages> fromSendMessageResponses(List<ChatRoomSendMessageResponseDto> messages) {
+        return messages.stream()
+                .map(message -> ChatRoomMessages.builder()
+                        .messageId(message.getMessageId())
+                        .type(message.getType())
+                        .sender(message.getSender())
+                        .message(message.getMessage())
+                        .replyToMessageId(message.getReplyToMessageId())
+                        .serverTimeStamp(message.getServerTimeStamp())
+                        .build())
+                .collect(Collectors.toList());
+    }
 }
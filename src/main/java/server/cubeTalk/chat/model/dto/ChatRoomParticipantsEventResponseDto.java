@@ -0,0 +1,33 @@
+package server.cubeTalk.chat.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/*
+ * 참여자 목록 변경 이벤트 (chat.participants.broadcast-mode 가 DELTA 인 경우)
+ * SNAPSHOT : 전체 참여자 목록, DELTA : 변경된 참여자만 (JOINED, LEFT, ROLE_CHANGED, STATUS_CHANGED)
+ * version 이 마지막으로 받은 버전 + 1 이 아니면 누락된 변경이 있으므로 /pub/{id}/participants.snapshot 으로 전체 목록 요청
+ */
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ChatRoomParticipantsEventResponseDto {
+    private String type;
+    private long version; // 이 메시지까지 반영된 버전
+    private List<ChatRoomParticipantsListResponseDto> participants;
+    private List<ParticipantEvent> events;
+
+    public static ChatRoomParticipantsEventResponseDto snapshot(long version, List<ChatRoomParticipantsListResponseDto> participants) {
+        return new ChatRoomParticipantsEventResponseDto("SNAPSHOT", version, participants, null);
+    }
+
+    public static ChatRoomParticipantsEventResponseDto delta(List<ParticipantEvent> events) {
+        return new ChatRoomParticipantsEventResponseDto("DELTA", events.get(events.size() - 1).version(), null, events);
+    }
+
+    public record ParticipantEvent(String type, long version, ChatRoomParticipantsListResponseDto participant) {
+    }
+}
@@ -5,6 +5,8 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import server.cubeTalk.common.dto.CommonResponseDto;
 
+import java.util.List;
+
 @Getter
 @AllArgsConstructor
 @JsonInclude(JsonInclude.Include.NON_NULL)
@@ -21,4 +23,16 @@ public class ChatRoomProgressResponseDto<T> {
         }
     }
 
+    /* 단계 시작 / resync 시 전송 (시각은 서버 기준 epoch millis) */
+    public record ChatRoomDeadlineProgressResponse(String type, long phaseStartedAt, long deadline, long serverTime,
+                                                   long durationSeconds, List<PhaseDuration> phases, String message) {
+        public static ChatRoomProgressResponseDto.ChatRoomDeadlineProgressResponse progress(String type, long phaseStartedAt, long deadline, long serverTime,
+                                                                                            long durationSeconds, List<PhaseDuration> phases, String message) {
+            return new ChatRoomProgressResponseDto.ChatRoomDeadlineProgressResponse(type, phaseStartedAt, deadline, serverTime, durationSeconds, phases, message);
+        }
+    }
+
+    public record PhaseDuration(String type, long durationSeconds) {
+    }
+
 }
@@ -12,4 +12,8 @@ public class ChatRoomStartRequestDto {
     @Pattern(regexp = "^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$",
             message = "Invalid UUID format")
     private String ownerId;
+
+    /* TICK: 1초마다 남은 시간 전송 (기본값), DEADLINE: 단계 시작 시 마감 시각만 전송 */
+    @Pattern(regexp = "^(TICK|DEADLINE)$", message = "progressMode는 TICK 또는 DEADLINE 이어야 합니다.")
+    private String progressMode;
 }
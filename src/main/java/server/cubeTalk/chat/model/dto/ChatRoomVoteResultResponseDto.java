@@ -3,6 +3,9 @@ package server.cubeTalk.chat.model.dto;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import server.cubeTalk.chat.model.entity.Vote;
+
+import java.util.List;
 
 @Getter
 @AllArgsConstructor
@@ -11,4 +14,6 @@ public class ChatRoomVoteResultResponseDto {
     private Integer support;
     private Integer opposite;
     private String mvp;
+    private List<String> mvpLeaders; // 최다 득표 (동률 포함)
+    private List<Vote.MvpRank> mvpRanking;
 }
@@ -9,10 +9,14 @@ import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import server.cubeTalk.common.entity.BaseTimeStamp;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Builder(toBuilder = true)
 @NoArgsConstructor
@@ -35,11 +39,84 @@ public class ChatRoom extends BaseTimeStamp {
     private Double chatDuration;
     private String ownerId; //member의 id를 참조
     private String chatStatus;
+    private String progressMode; // TICK, DEADLINE
+    private String progressPhase; // 현재 진행 단계 (positiveEntry ~ votingTime, free)
+    private Long phaseStartedAt; // 현재 단계 시작 시각 (epoch millis)
+    private Long phaseDeadline; // 현재 단계 마감 시각 (epoch millis)
     private DebateSettings debateSettings;
     private Vote vote;
     private List<Participant> participants = new ArrayList<>(); // 참여자 목록
     private List<SubChatRoom> subChatRooms = new ArrayList<>(); // 서브 채팅방 목록
 
+    // 역할별 / 준비 완료 인원 (참가자 목록을 매번 세지 않도록 $inc 로 유지, 전체 저장 시에는 참가자 목록으로 다시 계산)
+    private int supportCount;
+    private int oppositeCount;
+    private int spectatorCount;
+    private int freeCount;
+    private int readyCount;
 
+    // 참가자 목록 변경 버전 (참가, 퇴장, 역할 / 상태 변경마다 1씩 증가, 클라이언트가 누락된 변경을 확인하는 용도)
+    private long participantsVersion;
+
+    /* 참가자 목록으로 인원 다시 계산 (새 채팅방 저장, 인원 필드가 없는 이전 문서 정리 시 호출) */
+    public void refreshParticipantCounts() {
+        int support = 0, opposite = 0, spectator = 0, free = 0, ready = 0;
+        for (Participant participant : participants) {
+            switch (String.valueOf(participant.getRole())) {
+                case "찬성" -> support++;
+                case "반대" -> opposite++;
+                case "관전" -> spectator++;
+                case "자유" -> free++;
+                default -> { }
+            }
+            if ("READY".equals(participant.getStatus())) ready++;
+        }
+        this.supportCount = support;
+        this.oppositeCount = opposite;
+        this.spectatorCount = spectator;
+        this.freeCount = free;
+        this.readyCount = ready;
+    }
+
+    /* 서브 채팅방 참가자를 메인 참가자 목록에서 역할로 구성 (참가자는 메인 목록에만 저장) */
+    public void deriveSubChatRoomParticipants() {
+        for (SubChatRoom subChatRoom : subChatRooms) {
+            subChatRoom.setParticipants(participants.stream()
+                    .filter(participant -> subChatRoom.getType().equals(participant.getRole()))
+                    .collect(Collectors.toCollection(ArrayList::new)));
+        }
+    }
+
+    /* 역할(type)에 해당하는 서브 채팅방 channelId, 없으면 null */
+    public String findSubChannelId(String type) {
+        return subChatRooms.stream()
+                .filter(subChatRoom -> subChatRoom.getType().equals(type))
+                .map(SubChatRoom::getSubChannelId)
+                .findFirst()
+                .orElse(null);
+    }
+
+    /* 역할에 해당하는 인원 필드 이름 */
+    public static String countField(String role) {
+        return switch (role) {
+            case "찬성" -> "supportCount";
+            case "반대" -> "oppositeCount";
+            case "관전" -> "spectatorCount";
+            case "자유" -> "freeCount";
+            default -> throw new IllegalArgumentException("존재하지 않는 역할입니다.");
+        };
+    }
+
+    /* 참가자 제거 업데이트 (목록에서 제거, 역할별 / 준비 완료 인원 감소, 참가자 목록 버전 증가) */
+    public static Update participantRemoval(Participant participant) {
+        Update update = new Update()
+                .pull("participants", Query.query(Criteria.where("memberId").is(participant.getMemberId())))
+                .inc(countField(participant.getRole()), -1)
+                .inc("participantsVersion", 1);
+        if ("READY".equals(participant.getStatus())) {
+            update.inc("readyCount", -1);
+        }
+        return update;
+    }
 }
 
@@ -5,9 +5,12 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.bson.types.ObjectId;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 import server.cubeTalk.common.entity.BaseTimeStamp;
+import server.cubeTalk.common.util.DateTimeUtils;
 
 import java.time.LocalDateTime;
 
@@ -16,6 +19,7 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @NoArgsConstructor
 @Document(collection = "message")
+@CompoundIndex(name = "channel_created_id", def = "{'channelId': 1, 'createdAt': 1, '_id': 1}") // 이전 메시지 커서 페이지네이션용
 public class Message extends BaseTimeStamp {
     @Id
     private String id;
@@ -37,4 +41,10 @@ public class Message extends BaseTimeStamp {
         this.type = "close";
     }
 
+    /* 쓰기 지연 저장 전에 id, 생성 시각을 미리 발급 (응답에 바로 사용) */
+    public void assignIdAndCreatedAt() {
+        this.id = new ObjectId().toHexString();
+        assignCreatedAt(DateTimeUtils.nowFromZone());
+    }
+
 }
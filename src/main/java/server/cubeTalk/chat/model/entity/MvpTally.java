@@ -0,0 +1,16 @@
+package server.cubeTalk.chat.model.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/* 닉네임별 MVP 득표 수 */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MvpTally {
+    private String nickName;
+    private int count;
+}
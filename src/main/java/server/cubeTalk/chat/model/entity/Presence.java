@@ -0,0 +1,30 @@
+package server.cubeTalk.chat.model.entity;
+
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.Date;
+
+/* 채팅방에 접속중인 세션 (모든 노드가 공유, 노드가 heartbeat 로 만료 시각을 연장하지 않으면 TTL 인덱스로 삭제) */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Document(collection = "presence")
+public class Presence {
+    @Id
+    private String id; // 노드 id + ":" + 세션 id
+    @Indexed
+    private String roomId;
+    private String nickName;
+    @Indexed // 노드별 heartbeat, 종료 시 정리
+    private String nodeId;
+    @Indexed(expireAfterSeconds = 0)
+    private Date expiresAt;
+}
@@ -3,20 +3,19 @@ package server.cubeTalk.chat.model.entity;
 
 import lombok.Builder;
 import lombok.Data;
+import org.springframework.data.annotation.Transient;
 
 import java.util.List;
-import java.util.ArrayList;
 
 @Data
 @Builder(toBuilder = true)
 public class SubChatRoom {
     private String subChannelId;
     private String type;
-    private List<Participant> participants;
 
-    public void addParticipant(Participant participant) {
-        this.participants.add(participant);
-    }
+    // 저장하지 않고 조회 시 메인 채팅방 참가자 중 역할(type)이 같은 참가자로 구성 (ChatRoom.deriveSubChatRoomParticipants)
+    @Transient
+    private List<Participant> participants;
 
 
 }
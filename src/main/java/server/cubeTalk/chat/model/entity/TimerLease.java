@@ -0,0 +1,22 @@
+package server.cubeTalk.chat.model.entity;
+
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/* 채팅방 진행 타이머를 어느 노드가 실행중인지 나타내는 리스 (노드가 죽으면 만료 후 다른 노드가 이어받음) */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Document(collection = "timerLease")
+public class TimerLease {
+    @Id
+    private String roomId;
+    private String ownerNode;
+    private long expiresAt; // epoch millis
+}
@@ -5,10 +5,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
 
 @Getter
 @NoArgsConstructor
@@ -17,32 +14,59 @@ import java.util.Map;
 public class Vote {
     private int support;
     private int opposite;
-    private List<String> mvp;
+    private List<String> mvp; // 이전 방식 (닉네임을 투표마다 추가)
+    private List<MvpTally> mvpTally; // 닉네임별 득표 수 ($inc 로 집계)
+    private List<String> mvpLeaders; // 현재 최다 득표 닉네임 (동률이면 여러 명)
+    private int mvpLeaderCount; // 현재 최다 득표 수
+    private List<String> voters; // 투표한 참가자 memberId (중복 투표 방지)
+    private boolean closed; // 투표 종료 여부 (종료 후 반영되는 투표는 집계하지 않음)
 
-    public Vote addMVP(String newMvp) {
-        List<String> updatedMvpList = new ArrayList<>(this.mvp);
-        updatedMvpList.add(newMvp);
-
-        return Vote.builder()
-                .support(this.support)
-                .opposite(this.opposite)
-                .mvp(updatedMvpList)
-                .build();
+    /* 최다 득표 닉네임 (득표 시마다 갱신된 값을 바로 사용, 동률이면 먼저 도달한 닉네임) */
+    public String calculateMVP() {
+        List<String> leaders = getLeaders();
+        return leaders.isEmpty() ? null : leaders.get(0);
     }
 
+    /* 최다 득표 닉네임 목록 (동률 포함) */
+    public List<String> getLeaders() {
+        if (this.mvpLeaders != null && !this.mvpLeaders.isEmpty()) {
+            return this.mvpLeaders;
+        }
+        // 이전 방식으로 저장된 투표는 순위에서 계산
+        List<MvpRank> ranking = rankMVP();
+        return ranking.stream()
+                .filter(rank -> rank.rank() == 1)
+                .map(MvpRank::nickName)
+                .toList();
+    }
 
-    public String calculateMVP() {
+    /* 득표 수 순위 (동률은 같은 순위, 다음 순위는 동률 인원만큼 건너뜀) */
+    public List<MvpRank> rankMVP() {
         Map<String, Integer> frequencyMap = new HashMap<>();
+        if (this.mvpTally != null) {
+            for (MvpTally tally : this.mvpTally) {
+                // 득표 항목만 미리 추가되고 반영된 투표가 없는 닉네임은 제외
+                if (tally.getCount() > 0) frequencyMap.merge(tally.getNickName(), tally.getCount(), Integer::sum);
+            }
+        }
+        if (this.mvp != null) {
+            for (String name : this.mvp) {
+                frequencyMap.merge(name, 1, Integer::sum);
+            }
+        }
 
-        // 각 닉네임의 등장 횟수 계산
-        for (String name : this.mvp) {
-            frequencyMap.put(name, frequencyMap.getOrDefault(name, 0) + 1);
+        List<Map.Entry<String, Integer>> sorted = new ArrayList<>(frequencyMap.entrySet());
+        sorted.sort(Map.Entry.<String, Integer>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()));
+
+        List<MvpRank> ranking = new ArrayList<>(sorted.size());
+        for (int i = 0; i < sorted.size(); i++) {
+            Map.Entry<String, Integer> entry = sorted.get(i);
+            int rank = i > 0 && entry.getValue().equals(sorted.get(i - 1).getValue()) ? ranking.get(i - 1).rank() : i + 1;
+            ranking.add(new MvpRank(rank, entry.getKey(), entry.getValue()));
         }
+        return ranking;
+    }
 
-        // 등장 횟수가 가장 많은 MVP 선정
-        return frequencyMap.entrySet().stream()
-                .max(Map.Entry.comparingByValue())  // 가장 높은 값(등장 횟수)을 가진 항목을 찾음
-                .map(Map.Entry::getKey)            // 해당 키(닉네임)를 반환
-                .orElse(null);               // 빈 경우에는 null 반환
+    public record MvpRank(int rank, String nickName, int count) {
     }
 }
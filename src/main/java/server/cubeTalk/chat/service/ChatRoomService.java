@@ -1,32 +1,36 @@
 package server.cubeTalk.chat.service;
 
 
-import com.mongodb.BasicDBObject;
 import com.mongodb.client.result.UpdateResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.MongoExpression;
 import org.springframework.data.mongodb.core.FindAndModifyOptions;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
-import org.springframework.messaging.simp.SimpMessageSendingOperations;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import server.cubeTalk.chat.handler.ChatRoomExistenceCache;
+import server.cubeTalk.chat.handler.ChatRoomStateCache;
+import server.cubeTalk.chat.handler.RecentMessageBuffer;
 import server.cubeTalk.chat.handler.SubscriptionManager;
 import server.cubeTalk.chat.model.dto.*;
 import server.cubeTalk.chat.model.entity.*;
 import server.cubeTalk.chat.repository.ChatRoomRepository;
 import server.cubeTalk.chat.repository.MessageRepository;
-import server.cubeTalk.common.dto.CommonResponseDto;
 import server.cubeTalk.common.service.ParticipantStatusSchedulerService;
 import server.cubeTalk.common.util.DateTimeUtils;
-import server.cubeTalk.common.util.RandomNicknameGenerator;
 import server.cubeTalk.member.model.entity.Member;
 import server.cubeTalk.member.repository.MemberRepository;
 
@@ -44,10 +48,16 @@ public class ChatRoomService {
     private final MessageRepository messageRepository;
     private final WebSocketService webSocketService;
     private final SubscriptionManager subscriptionManager;
-    private final SimpMessageSendingOperations messageSendingOperations;
     private final ParticipantStatusSchedulerService participantStatusSchedulerService;
     private final MessageService messageService;
     private final MongoTemplate mongoTemplate;
+    private final ChatRoomStateCache chatRoomStateCache;
+    private final ChatRoomExistenceCache chatRoomExistenceCache;
+    private final MessageWriteBehindService messageWriteBehindService;
+    private final RecentMessageBuffer recentMessageBuffer;
+    private final VoteAggregatorService voteAggregatorService;
+    private final NicknameReservationService nicknameReservationService;
+    private final PresenceService presenceService;
     private boolean isRollBack = false;
 
     /* 채팅방 생성 */
@@ -71,6 +81,10 @@ public class ChatRoomService {
                 .chatDuration(requestDto.getChatDuration().isPresent() && requestDto.getChatMode().equals("자유") ? requestDto.getChatDuration().get() : totalChatDuration)
                 .debateSettings(buildDebateSettings(requestDto))
                 .chatStatus("CREATED")
+                .subChatRooms("찬반".equals(requestDto.getChatMode())
+                        ? new ArrayList<>(List.of(newSubChatRoom("찬성"), newSubChatRoom("반대"), newSubChatRoom("관전")))
+                        : new ArrayList<>()) // 참가 시 조건부 업데이트로 바로 추가할 수 있도록 팀별 서브 채팅방 미리 생성
+                .participants(new ArrayList<>())
                 .build();
 
         Member member = Member.builder()
@@ -78,6 +92,7 @@ public class ChatRoomService {
                 .build();
 
         chatRoomRepository.save(chatRoom);
+        chatRoomExistenceCache.markCreated(chatRoom);
         memberRepository.save(member);
 
         return new ChatRoomCreateResponseDto(chatRoom.getId(), memberId);
@@ -110,83 +125,43 @@ public class ChatRoomService {
             throw new IllegalArgumentException("롤백처리 중이기 때문에 지금은 참가할 수 없습니다.");
         }
 
-        String subchannelId = null;
-        String memberId = UUID.randomUUID().toString();
+        String role = chatRoomJoinRequestDto.getRole();
+        boolean isDebateRole = !role.equals("자유");
 
-        ChatRoom chatRoom = chatRoomRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("해당 채팅방을 찾을 수 없습니다."));
-
-        // 최대 참가 인원 , 팀별 참가 인원에 대한 예외처리
-        participantsValidate(chatRoom, chatRoomJoinRequestDto);
-
-        // 새 참가자를 리스트에 추가
-        // !chatRoom.getOwnerId().isEmpty() (비어있지않다면) -> 방장이 참가
-        // 이후 dto.getOwnerId()랑 chatRoom.getOwnerId() 비교 후 같으면 원래 chatRoom.getOwnerId() 아니면, 예외(유효성검증실패) 처리
-        String enterMember;
-
-        if (chatRoomJoinRequestDto.getOwnerId().isPresent()) {
-            if (chatRoom.getOwnerId() != null && chatRoom.getOwnerId().equals(chatRoomJoinRequestDto.getOwnerId().get())) {
-                enterMember = chatRoom.getOwnerId();
-            } else {
-                throw new IllegalArgumentException("유효하지 않은 (ownerId) 방장 정보입니다.");
-            }
-
-        } else {
-            enterMember = memberId;
-        }
+        // ownerId 가 있으면 방장이 참가 (채팅방의 ownerId 와 일치하는지는 조건부 업데이트에서 확인)
+        boolean isOwner = chatRoomJoinRequestDto.getOwnerId().isPresent();
+        String enterMember = isOwner ? chatRoomJoinRequestDto.getOwnerId().get() : UUID.randomUUID().toString();
+        boolean isRandomNickName = chatRoomJoinRequestDto.getNickName() == null;
 
+        // 채팅방 안에서 닉네임 예약 (member 저장, roomId + nickName 유니크 인덱스로 중복 방지)
         String nickName;
-        if (chatRoomJoinRequestDto.getNickName() == null) {
-            nickName = RandomNicknameGenerator.generateNickname();
+        if (isRandomNickName) {
+            nickName = nicknameReservationService.reserveRandom(id, enterMember);
         } else {
-            if (validateNickName(id, chatRoomJoinRequestDto.getNickName())) {
-                nickName = chatRoomJoinRequestDto.getNickName();
-            } else {
+            nickName = chatRoomJoinRequestDto.getNickName();
+            if (!nicknameReservationService.reserve(id, enterMember, nickName)) {
                 throw new IllegalArgumentException("이미 사용중인 닉네임 입니다.");
             }
         }
 
-        Member member = Member.builder()
-                .memberId(enterMember)
-                .nickName(nickName)
-                .build();
-
         Participant participant = Participant.builder()
                 .memberId(enterMember)
-                .role(chatRoomJoinRequestDto.getRole())
-                .status(chatRoom.getOwnerId().equals(enterMember) ? "OWNER" : "PENDING")
+                .role(role)
+                .status(isOwner ? "OWNER" : "PENDING")
                 .nickName(nickName)
                 .build();
 
-        chatRoom.getParticipants().add(participant);
-
-        // subChatRoom 생성 및 해당 메인 채팅방에  subChatRoom 이 "subChannelId 가 이미 있고,
-        //      "type" = dto.getRole 이랑 같다면 , 해당 방에 subChatRoom.addParticipant 해주기
-        // "subChannelId 가 이미 있는데, type이 같은 게 없다면 "subChannelId생성,
-        // subChannelId 가 없다면 "subChannelId  생성 및 "type = dto.getRole
-
-        if (chatRoom.getChatMode().equals("찬반")) {
-            for (SubChatRoom subChatRoom : chatRoom.getSubChatRooms()) {
-                if (subChatRoom.getType().equals(chatRoomJoinRequestDto.getRole())) {
-                    subchannelId = subChatRoom.getSubChannelId();
-                    subChatRoom.addParticipant(participant);
-                    break;
-                }
-            }
-
-            if (subchannelId == null) {
-                subchannelId = UUID.randomUUID().toString();
-                SubChatRoom newSubChatRoom = SubChatRoom.builder()
-                        .subChannelId(subchannelId)
-                        .type(chatRoomJoinRequestDto.getRole())
-                        .participants(new ArrayList<>()) // 빈 리스트로 초기화
-                        .build();
-
-                newSubChatRoom.addParticipant(participant);
-                chatRoom.getSubChatRooms().add(newSubChatRoom);
-            }
+        /*
+         * 인원 제한, 팀별 인원 제한, 닉네임 중복을 조건으로 한 번의 findAndModify 로 참가자 추가
+         * 조건을 만족하지 않으면 아무것도 변경되지 않고 null 반환 -> 예약한 닉네임 해제 후 원인 확인을 위해 조회
+         */
+        ChatRoom chatRoom = pushParticipant(id, chatRoomJoinRequestDto, participant, isDebateRole);
+        if (chatRoom == null) {
+            nicknameReservationService.release(id, enterMember, nickName);
+            validateJoinFailure(id, chatRoomJoinRequestDto, enterMember, nickName);
         }
 
+        String subchannelId = isDebateRole ? chatRoom.findSubChannelId(role) : null;
 
         String message = nickName + "님이 입장하셨습니다.";
         messageService.sendChatRoomMessage("EVENT",message,"/topic/chat." + chatRoom.getChannelId());
@@ -194,32 +169,126 @@ public class ChatRoomService {
             messageService.sendChatRoomMessage("EVENT",message,"/topic/chat." + subchannelId);
         }
 
-        memberRepository.save(member);
-        chatRoomRepository.save(chatRoom);
+        chatRoomStateCache.evict(chatRoom.getId());
 
-        webSocketService.sendParticiPantsList(chatRoom);
+        webSocketService.sendParticipantEvent(chatRoom, "JOINED", participant);
 
         if (chatRoomJoinRequestDto.getRole().equals("자유")) subchannelId = null;
 
         return new ChatRoomJoinResponseDto(chatRoom.getId(), enterMember, chatRoom.getChannelId(), subchannelId, nickName);
     }
 
+    /* 참가 조건을 만족하면 참가자 추가 후 변경된 채팅방 반환, 만족하지 않으면 null (서브 채팅방 참가자는 역할로 구성되므로 메인 목록에만 추가) */
+    private ChatRoom pushParticipant(String id, ChatRoomJoinRequestDto dto, Participant participant, boolean isDebateRole) {
+        Query query = joinQuery(id, dto, participant.getMemberId(), participant.getNickName());
+        Update update = new Update().push("participants", participant)
+                .inc(ChatRoom.countField(participant.getRole()), 1)
+                .inc("participantsVersion", 1);
+        ChatRoom chatRoom = mongoTemplate.findAndModify(query, update, FindAndModifyOptions.options().returnNew(true), ChatRoom.class);
+
+        if (isDebateRole && chatRoom != null && chatRoom.findSubChannelId(participant.getRole()) == null) {
+            // 해당 역할의 서브 채팅방이 없는 이전에 생성된 채팅방
+            ensureSubChatRoom(id, participant.getRole());
+            chatRoom = chatRoomRepository.findById(id).orElse(chatRoom);
+        }
+        return chatRoom;
+    }
 
-    /* 중복 닉네임 검증 */
-    public boolean validateNickName(String roomId, String nickName) {
-        ChatRoom chatRoom = chatRoomRepository.findById(roomId)
-                .orElseThrow(() -> new IllegalArgumentException("해당채팅방이 존재하지 않습니다."));
+    /* 참가 조건 (채팅방 문서의 필드로만 판단하므로 동시에 참가해도 인원을 초과하지 않음) */
+    private Query joinQuery(String id, ChatRoomJoinRequestDto dto, String memberId, String nickName) {
+        Criteria criteria = Criteria.where("_id").is(id)
+                .and("participants.memberId").ne(memberId)
+                .and("participants.nickName").ne(nickName);
+        if (dto.getOwnerId().isPresent()) {
+            criteria = criteria.and("ownerId").is(dto.getOwnerId().get());
+        }
+        return Query.query(criteria.andOperator(Criteria.expr(joinCapacityExpression(dto.getRole()))));
+    }
 
-        for (Participant participant : chatRoom.getParticipants()) {
-//            if (participant.getNickName() == null) {
-//
-            if (participant.getNickName().equals(nickName)) {
-                return false; // 존재하면 false 반환
-            }
+    /* participantsValidate 와 같은 인원 제한을 $expr 로 표현 */
+    private MongoExpression joinCapacityExpression(String role) {
+        final int MAX_SPECTATORS = 4;
+        Document participantsSize = new Document("$size", participantsArray());
+
+        // 자유 : 최대 참가 인원
+        Document freeRoom = new Document("$lt", List.of(participantsSize, "$maxParticipants"));
+
+        // 찬반 : 최대 참가 인원 + 관전 인원, 시작 후에는 찬성/반대 입장 불가, 팀별 최대 인원의 절반
+        List<Object> debateConditions = new ArrayList<>();
+        debateConditions.add(new Document("$lt", List.of(participantsSize, new Document("$add", List.of("$maxParticipants", MAX_SPECTATORS)))));
+        if (role.equals("찬성") || role.equals("반대")) {
+            debateConditions.add(new Document("$ne", List.of("$chatStatus", "STARTED")));
         }
-        return true;
+        debateConditions.add(roleCapacityCondition(role));
+        Document debateRoom = new Document("$and", debateConditions);
+
+        Document expression = new Document("$cond", List.of(new Document("$eq", List.of("$chatMode", "자유")), freeRoom, debateRoom));
+        return () -> expression;
+    }
+
+    /* 팀 변경 시 변경할 팀의 인원 제한 (참가와 같은 팀별 제한) */
+    private MongoExpression roleCapacityExpression(String role) {
+        Document expression = roleCapacityCondition(role);
+        return () -> expression;
+    }
+
+    /* 팀별 인원 제한 : 찬성/반대는 최대 인원의 절반, 관전은 최대 관전 인원 */
+    private Document roleCapacityCondition(String role) {
+        final int MAX_SPECTATORS = 4;
+        if (role.equals("찬성") || role.equals("반대")) {
+            Document teamLimit = new Document("$max", List.of(new Document("$trunc", new Document("$divide", List.of("$maxParticipants", 2))), 1));
+            return new Document("$or", List.of(
+                    new Document("$eq", List.of("$maxParticipants", 0)),
+                    new Document("$lt", List.of(roleCount(role), teamLimit))));
+        }
+        if (role.equals("관전")) {
+            return new Document("$lt", List.of(roleCount(role), MAX_SPECTATORS));
+        }
+        return new Document("$literal", true);
+    }
+
+    private String roleCount(String role) {
+        return "$" + ChatRoom.countField(role);
+    }
+
+    private Document participantsArray() {
+        return new Document("$ifNull", List.of("$participants", List.of()));
+    }
+
+    /* 해당 역할의 서브 채팅방이 없을 때만 추가 */
+    private void ensureSubChatRoom(String id, String role) {
+        Query query = Query.query(Criteria.where("_id").is(id).and("subChatRooms.type").ne(role));
+        mongoTemplate.updateFirst(query, new Update().push("subChatRooms", newSubChatRoom(role)), ChatRoom.class);
     }
 
+    private SubChatRoom newSubChatRoom(String role) {
+        return SubChatRoom.builder()
+                .subChannelId(UUID.randomUUID().toString())
+                .type(role)
+                .build();
+    }
+
+    /* 조건부 참가 실패 시 원인 확인 (실패한 경우에만 조회) */
+    private void validateJoinFailure(String id, ChatRoomJoinRequestDto dto, String memberId, String nickName) {
+        ChatRoom chatRoom = chatRoomRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("해당 채팅방을 찾을 수 없습니다."));
+
+        if (dto.getOwnerId().isPresent() && (chatRoom.getOwnerId() == null || !chatRoom.getOwnerId().equals(dto.getOwnerId().get()))) {
+            throw new IllegalArgumentException("유효하지 않은 (ownerId) 방장 정보입니다.");
+        }
+
+        // 최대 참가 인원 , 팀별 참가 인원에 대한 예외처리
+        participantsValidate(chatRoom, dto);
+
+        if (chatRoom.getParticipants().stream().anyMatch(participant -> participant.getMemberId().equals(memberId))) {
+            throw new IllegalArgumentException("이미 참가중인 멤버입니다.");
+        }
+        if (chatRoom.getParticipants().stream().anyMatch(participant -> nickName.equals(participant.getNickName()))) {
+            throw new IllegalArgumentException("이미 사용중인 닉네임 입니다.");
+        }
+        // 조회 시점에는 조건을 만족 (다른 참가자가 그 사이에 나간 경우 등)
+        throw new IllegalArgumentException("참가 처리 중 채팅방 상태가 변경되었습니다. 다시 시도해주세요.");
+    }
 
     /* 팀 변경 */
     public ChatRoomTeamChangeResponseDto changeTeam(String id, String memberId, ChatRoomTeamChangeRequestDto chatRoomTeamChangeRequestDto) {
@@ -248,95 +317,33 @@ public class ChatRoomService {
             throw new IllegalArgumentException(errorMessage);
         }
 
-        long roleCount = chatRoom.getParticipants().stream()
-                .filter(participant -> role.equals(participant.getRole()))
-                .count();
+        String originRole = searchParticipant.getRole();
 
-        if (role.equals("찬성") || role.equals("반대")) {
-            if (roleCount >= chatRoom.getMaxParticipants() / 2) {
-                String errorMessage = "해당 팀의 인원이 꽉 찼기 때문에 변경할 수 없습니다.";
-                throw new IllegalArgumentException(errorMessage);
-            }
-        } else if (role.equals("관전")) {
-            if (roleCount >= 4) {
-                String errorMessage = "해당 팀의 인원이 꽉 찼기 때문에 변경할 수 없습니다.";
-                throw new IllegalArgumentException(errorMessage);
-            }
-        }
-
-        /* 참가자의 역할 변경 작업 */
-        List<Participant> changeParticipant = chatRoom.getParticipants().stream().map(
-                participant -> {
-                    if (participant.getMemberId().equals(memberId)) {
-                        return Participant.builder()
-                                .memberId(memberId)
-                                .role(chatRoomTeamChangeRequestDto.getRole())
-                                .status(participant.getStatus())
-                                .nickName(participant.getNickName())
-                                .build();
-                    }
-                    return participant;
-                }
-        ).toList();
-
-        String originRole = chatRoom.getParticipants().stream()
-                .filter(participant -> participant.getMemberId().equals(memberId))
-                .map(Participant::getRole)
-                .findFirst()
-                .orElseThrow(() -> {
-                    String errorMessage = "해당 멤버 ID를 찾을 수 없습니다.";
-                    return new IllegalArgumentException(errorMessage);
-                });
-
-        ChatRoom updatedChatRoom = chatRoom.toBuilder()
-                .participants(changeParticipant)
-                .build();
-
-        boolean isSubChannelIdFound = false;
-        for (SubChatRoom subChatRoom : chatRoom.getSubChatRooms()) {
-            if (subChatRoom.getSubChannelId().equals(chatRoomTeamChangeRequestDto.getSubChannelId()) && subChatRoom.getType().equals(originRole)) {
-                isSubChannelIdFound = true;
-                subChatRoom.getParticipants().removeIf(participant -> participant.getMemberId().equals(memberId));
-                break;
-            }
-        }
+        // 변경 전 subChannel 이 기존 역할의 서브 채팅방인지 확인 (서브 채팅방 참가자는 역할로 구성되므로 별도로 옮기지 않음)
+        boolean isSubChannelIdFound = chatRoom.getSubChatRooms().stream()
+                .anyMatch(subChatRoom -> subChatRoom.getSubChannelId().equals(chatRoomTeamChangeRequestDto.getSubChannelId()) && subChatRoom.getType().equals(originRole));
 
         if (!isSubChannelIdFound) {
             String errorMessage = "현재 변경하고자 하는 역할과, 변경 전 subChannel 요청이 달라 처리할 수 없습니다. request 를 확인해주세요. ";
             throw new IllegalArgumentException(errorMessage);
         }
 
-        String[] changeSubChannelId = new String[1];
+        if (chatRoom.findSubChannelId(role) == null) {
+            // 해당 역할의 서브 채팅방이 없는 이전에 생성된 채팅방
+            ensureSubChatRoom(id, role);
+        }
 
-        chatRoom.getSubChatRooms().forEach(subChatRoom -> {
-            if (subChatRoom.getType().equals(chatRoomTeamChangeRequestDto.getRole())) {
-                changeParticipant.forEach(participant -> {
-                    if (participant.getMemberId().equals(memberId)) {
-                        changeSubChannelId[0] = subChatRoom.getSubChannelId();
-                        subChatRoom.getParticipants().add(participant);
-                    }
-                });
-            }
-        });
-
-        if (changeSubChannelId[0] == null) {
-            changeSubChannelId[0] = UUID.randomUUID().toString();
-            SubChatRoom newSubChatRoom = SubChatRoom.builder()
-                    .subChannelId(changeSubChannelId[0])
-                    .type(chatRoomTeamChangeRequestDto.getRole())
-                    .participants(new ArrayList<>())
-                    .build();
-            changeParticipant.forEach(participant -> {
-                if (participant.getMemberId().equals(memberId)) {
-                    newSubChatRoom.getParticipants().add(participant);
-                }
-            });
-            chatRoom.getSubChatRooms().add(newSubChatRoom);
+        /* 참가자의 역할 변경 작업 (시작 전, 변경 전 역할, 변경할 팀 인원을 조건으로 한 번에 반영) */
+        ChatRoom updatedChatRoom = switchParticipantRole(id, memberId, originRole, role);
+        if (updatedChatRoom == null) {
+            throw new IllegalArgumentException("해당 팀의 인원이 꽉 찼거나 채팅방 상태가 변경되어 팀을 변경할 수 없습니다.");
         }
+        chatRoomStateCache.evict(id);
 
-        chatRoomRepository.save(updatedChatRoom);
+        String[] changeSubChannelId = new String[1];
+        changeSubChannelId[0] = updatedChatRoom.findSubChannelId(role);
 
-        webSocketService.sendParticiPantsList(updatedChatRoom);
+        webSocketService.sendParticipantEvent(updatedChatRoom, "ROLE_CHANGED", Participant.changeRole(searchParticipant, role, searchParticipant.getStatus(), searchParticipant.getNickName()));
 
         // 팀 변경 메시지
         String message = searchParticipant.getNickName() + "님이 " + chatRoomTeamChangeRequestDto.getRole() + "팀으로 팀을 변경하셨습니다.";
@@ -358,6 +365,24 @@ public class ChatRoomService {
     }
 
 
+    /*
+     * 참가자 역할 변경 (fromRole -> toRole), 조건을 만족하지 않으면 아무것도 변경되지 않고 null 반환
+     * 시작 전이고, 참가자가 아직 fromRole 이고, toRole 팀 인원이 참가와 같은 제한 미만인 경우에만 반영
+     */
+    private ChatRoom switchParticipantRole(String id, String memberId, String fromRole, String toRole) {
+        Query query = Query.query(Criteria.where("_id").is(id)
+                .and("chatStatus").ne("STARTED")
+                .and("participants").elemMatch(Criteria.where("memberId").is(memberId).and("role").is(fromRole))
+                .andOperator(Criteria.expr(roleCapacityExpression(toRole))));
+        Update update = new Update()
+                .set("participants.$[p].role", toRole)
+                .inc(ChatRoom.countField(fromRole), -1)
+                .inc(ChatRoom.countField(toRole), 1)
+                .inc("participantsVersion", 1)
+                .filterArray(Criteria.where("p.memberId").is(memberId));
+        return mongoTemplate.findAndModify(query, update, FindAndModifyOptions.options().returnNew(true), ChatRoom.class);
+    }
+
     /* 참가 인원 검증 */
     public void participantsValidate(ChatRoom chatRoom, ChatRoomJoinRequestDto dto) {
 
@@ -381,17 +406,9 @@ public class ChatRoomService {
                 throw new IllegalArgumentException("채팅이 이미 시작되어 해당 팀으로 입장이 불가능합니다.");
             }
 
-            long supportCount = chatRoom.getParticipants().stream()
-                    .filter(participant -> SUPPORT_ROLE.equals(participant.getRole()))
-                    .count();
-
-            long oppsiteCount = chatRoom.getParticipants().stream()
-                    .filter(participant -> OPPOSITE_ROLE.equals(participant.getRole()))
-                    .count();
-
-            long spectatorCount = chatRoom.getParticipants().stream()
-                    .filter(participant -> SPECTATOR_ROLE.equals(participant.getRole()))
-                    .count();
+            long supportCount = chatRoom.getSupportCount();
+            long oppsiteCount = chatRoom.getOppositeCount();
+            long spectatorCount = chatRoom.getSpectatorCount();
 
             if (chatRoom.getChatStatus().equals("STARTED") && dto.getRole().equals(SPECTATOR_ROLE) && spectatorCount >= MAX_SPECTATORS) {
                 throw new IllegalArgumentException("현재 관전 인원이 꽉 찼습니다.");
@@ -468,53 +485,41 @@ public class ChatRoomService {
     /* 참가 실패 롤백 처리 */
 
     public void rollbackJoin(ChatRoom chatRoom, String memberId, String originRole) {
+        Participant participant = chatRoom.getParticipants().stream()
+                .filter(p -> p.getMemberId().equals(memberId))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("해당 memberId의 참가자를 찾을 수 없습니다."));
+
         memberRepository.deleteByMemberId(memberId);
-        chatRoom.getParticipants().removeIf(participant -> participant.getMemberId().equals(memberId));
-        for (SubChatRoom subChatRoom : chatRoom.getSubChatRooms()) {
-            if (subChatRoom.getType().equals(originRole)) {
-                subChatRoom.getParticipants().removeIf(participant -> participant.getMemberId().equals(memberId));
-            }
+        // 이미 제거된 경우 인원이 중복으로 감소하지 않도록 참가중인 경우에만 반영
+        ChatRoom rolledBackChatRoom = mongoTemplate.findAndModify(
+                Query.query(Criteria.where("_id").is(chatRoom.getId()).and("participants.memberId").is(memberId)),
+                ChatRoom.participantRemoval(participant),
+                FindAndModifyOptions.options().returnNew(true),
+                ChatRoom.class);
+        chatRoomStateCache.evict(chatRoom.getId());
+        if (rolledBackChatRoom != null) {
+            webSocketService.sendParticipantEvent(rolledBackChatRoom, "LEFT", participant);
         }
-        // 멤버리포지토리도 삭제한 걸 반영해야함
-        chatRoomRepository.save(chatRoom);
     }
 
     /* 팀 변경 실패 롤백 처리 */
 
     public void rollbackTeamChange(ChatRoom chatRoom, String memberId, String originRole, String newRole) {
 
-        Participant infoParticipant = chatRoom.getParticipants().stream()
-                .filter(participant -> participant.getMemberId().equals(memberId))
+        Participant participant = chatRoom.getParticipants().stream()
+                .filter(p -> p.getMemberId().equals(memberId))
                 .findFirst()
                 .orElseThrow(() -> new IllegalArgumentException("해당 memberId의 참가자를 찾을 수 없습니다."));
 
-        List<Participant> participants = chatRoom.getParticipants();
-
-        for (int i = 0; i < participants.size(); i++) {
-            Participant participant = participants.get(i);
-            if (participant.getMemberId().equals(memberId)) {
-                // role과 status가 변경된 새로운 Participant 객체로 교체
-                Participant updatedParticipant = Participant.changeRole(participant, originRole, participant.getStatus(), participant.getNickName());
-                participants.set(i, updatedParticipant);  // 기존 인덱스에 새 객체로 교체
-            }
-        }
-
-        for (SubChatRoom subChatRoom : chatRoom.getSubChatRooms()) {
-            if (subChatRoom.getType().equals(newRole)) {
-                subChatRoom.getParticipants().removeIf(participant -> participant.getMemberId().equals(memberId));
-            }
-
-            if (subChatRoom.getType().equals(originRole)) {
-                Participant originParticipant = Participant.builder()
-                        .memberId(memberId)
-                        .role(originRole)
-                        .status(infoParticipant.getStatus())
-                        .build();
-                subChatRoom.getParticipants().add(originParticipant);
-            }
+        // 변경한 역할에서 원래 역할로 되돌림 (원래 팀 인원이 그 사이 가득 찼으면 되돌리지 않음)
+        ChatRoom rolledBackChatRoom = switchParticipantRole(chatRoom.getId(), memberId, newRole, originRole);
+        if (rolledBackChatRoom == null) {
+            throw new IllegalArgumentException("원래 팀의 인원이 꽉 찼거나 참가자의 역할이 변경되어 롤백할 수 없습니다.");
         }
-
-        chatRoomRepository.save(chatRoom);
+        chatRoomStateCache.evict(chatRoom.getId());
+        webSocketService.sendParticipantEvent(rolledBackChatRoom, "ROLE_CHANGED",
+                Participant.changeRole(participant, originRole, participant.getStatus(), participant.getNickName()));
     }
 
 
@@ -530,11 +535,7 @@ public class ChatRoomService {
         if (!chatRoom.getOwnerId().equals(ownerId))
             throw new IllegalArgumentException("방장이 아닙니다. 방장만 채팅방 설명을 수정할 수 있습니다.");
 
-        ChatRoom updatedChatRoom = chatRoom.toBuilder()
-                .description(modifyDescription)
-                .build();
-
-        chatRoomRepository.save(updatedChatRoom);
+        updateChatRoomFields(id, new Update().set("description", modifyDescription));
 
         return "요청처리에 성공했습니다.";
     }
@@ -548,29 +549,15 @@ public class ChatRoomService {
 
     /* 참여자 인원 수 */
     public ChatRoomParticipantsCountDto getParticipantCounts(String id) {
-        final String SUPPORT = "찬성";
-        final String OPPOSITE = "반대";
-        final String SPECTATOR = "관전";
         final String FREE = "자유";
 
         ChatRoom chatRoom = chatRoomRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("해당채팅방을 찾을 수 없습니다."));
         if (chatRoom.getChatMode().equals(FREE)) {
-            int freeCount = (int) chatRoom.getParticipants().stream().filter(participant -> participant.getRole().equals(FREE))
-                    .count();
-            return new ChatRoomParticipantsCountDto(freeCount, chatRoom.getMaxParticipants(),null, null,null);
+            return new ChatRoomParticipantsCountDto(chatRoom.getFreeCount(), chatRoom.getMaxParticipants(),null, null,null);
         }
 
-        int supportCount = (int) chatRoom.getParticipants().stream().filter(participant -> participant.getRole().equals(SUPPORT))
-                .count();
-
-        int oppositeCount = (int) chatRoom.getParticipants().stream().filter(participant -> participant.getRole().equals(OPPOSITE))
-                .count();
-
-        int spectatorCount = (int) chatRoom.getParticipants().stream().filter(participant -> participant.getRole().equals(SPECTATOR))
-                .count();
-
-        return new ChatRoomParticipantsCountDto(null, chatRoom.getMaxParticipants(), supportCount, oppositeCount, spectatorCount);
+        return new ChatRoomParticipantsCountDto(null, chatRoom.getMaxParticipants(), chatRoom.getSupportCount(), chatRoom.getOppositeCount(), chatRoom.getSpectatorCount());
     }
 
     /* 채팅방 정보 */
@@ -609,12 +596,10 @@ public class ChatRoomService {
                     + debateSettings.getNegativeRebuttal() + debateSettings.getPositiveRebuttal();
 
             // 채팅방의 토론 설정과 시간 업데이트
-            ChatRoom updatedChatRoom = chatRoom.toBuilder()
-                    .maxParticipants(maxParticipants)
-                    .chatDuration(totalChatDuration)
-                    .debateSettings(debateSettings.toEntity())  // DebateSettingsRequest -> DebateSettings 변환
-                    .build();
-            chatRoomRepository.save(updatedChatRoom);
+            updateChatRoomFields(id, new Update()
+                    .set("maxParticipants", maxParticipants)
+                    .set("chatDuration", totalChatDuration)
+                    .set("debateSettings", debateSettings.toEntity()));  // DebateSettingsRequest -> DebateSettings 변환
 
         } else {
             // 자유 모드일 때
@@ -623,28 +608,143 @@ public class ChatRoomService {
             }
 
 
-            ChatRoom updatedChatRoom = chatRoom.toBuilder()
-                    .maxParticipants(chatRoomChangeSettingsRequestDto.getMaxParticipants())
-                    .chatDuration(chatRoomChangeSettingsRequestDto.getChatDuration().get())
-                    .build();
-            chatRoomRepository.save(updatedChatRoom);
+            updateChatRoomFields(id, new Update()
+                    .set("maxParticipants", chatRoomChangeSettingsRequestDto.getMaxParticipants())
+                    .set("chatDuration", chatRoomChangeSettingsRequestDto.getChatDuration().get()));
         }
 
         return "요청처리에 성공했습니다";
     }
 
-    public ChatRoomBeforeMessagesResponseDto getBeforeMessages(String channelId) {
-        List<Message> messages = messageRepository.findByChannelId(channelId);
+    /* 참가자 목록을 건드리지 않는 필드만 부분 업데이트 (전체 문서 저장 금지) */
+    private void updateChatRoomFields(String id, Update update) {
+        mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(id)), update, ChatRoom.class);
+    }
+
+    /* 이전 메시지 커서 페이지네이션 (before: 해당 메시지 이전, after: 해당 메시지 이후, 없으면 최신 메시지) */
+    public ChatRoomBeforeMessagesResponseDto getBeforeMessages(String channelId, String before, String after, int limit) {
+        if (before != null && after != null) {
+            throw new IllegalArgumentException("before, after 는 동시에 요청할 수 없습니다.");
+        }
+
+        Query query = Query.query(Criteria.where("channelId").is(channelId));
+        boolean isAfter = after != null;
+        String cursorId = isAfter ? after : before;
+
+        // 쓰기 지연으로 아직 저장되지 않은 메시지를 db 보다 먼저 읽음 (그 사이 저장된 메시지는 id 로 중복 제거)
+        List<Message> pending = messageWriteBehindService.findPendingMessages(channelId);
+
+        // (channelId, createdAt, _id) 인덱스를 타는 keyset 조건
+        Message cursor = null;
+        if (cursorId != null) {
+            cursor = findCursorMessage(channelId, cursorId);
+            Criteria createdAt = Criteria.where("createdAt");
+            Criteria sameCreatedAt = Criteria.where("createdAt").is(cursor.getCreatedAt());
+            Criteria id = Criteria.where("id");
+            ObjectId cursorObjectId = new ObjectId(cursorId);
+            if (isAfter) {
+                query.addCriteria(new Criteria().orOperator(
+                        createdAt.gt(cursor.getCreatedAt()),
+                        new Criteria().andOperator(sameCreatedAt, id.gt(cursorObjectId))));
+            } else {
+                query.addCriteria(new Criteria().orOperator(
+                        createdAt.lt(cursor.getCreatedAt()),
+                        new Criteria().andOperator(sameCreatedAt, id.lt(cursorObjectId))));
+            }
+        }
+
+        Sort.Direction direction = isAfter ? Sort.Direction.ASC : Sort.Direction.DESC;
+        query.with(Sort.by(direction, "createdAt").and(Sort.by(direction, "id")))
+                .limit(limit + 1);
+        query.fields().include("type", "sender", "message", "replyToMessageId", "createdAt");
+
+        List<Message> messages = mergePendingMessages(mongoTemplate.find(query, Message.class), pending, cursor, isAfter, limit + 1);
+        boolean hasMore = messages.size() > limit;
+        if (hasMore) {
+            messages.remove(messages.size() - 1);
+        }
+        // 응답은 기존과 같이 오래된 메시지부터 정렬
+        if (!isAfter) {
+            Collections.reverse(messages);
+        }
 
-        List<Message> filteredMessages = messages.stream()
-                .filter(message -> message.getCreatedAt().isBefore(DateTimeUtils.nowFromZone())) // createdAt이 get요청 시각보다 이전인 메시지만
+        return new ChatRoomBeforeMessagesResponseDto(ChatRoomMessages.fromMessagesByChannelId(messages, channelId), hasMore);
+    }
+
+    /* 재연결 시 since(messageId) 이후 놓친 메시지 반환 (버퍼가 빠짐없이 가지고 있을 때만 버퍼 사용, 아니면 db 조회) */
+    public ChatRoomBeforeMessagesResponseDto replayMessages(String channelId, String since, int limit) {
+        List<ChatRoomSendMessageResponseDto> buffered = recentMessageBuffer.findSince(channelId, since);
+        if (buffered != null && isBufferComplete(channelId, since, buffered)) {
+            boolean hasMore = buffered.size() > limit;
+            List<ChatRoomSendMessageResponseDto> page = hasMore ? buffered.subList(0, limit) : buffered;
+            return new ChatRoomBeforeMessagesResponseDto(ChatRoomMessages.fromSendMessageResponses(page), hasMore);
+        }
+        return getBeforeMessages(channelId, null, since, limit);
+    }
+
+    /*
+     * 버퍼에는 이 노드에서 발행된 메시지만 있으므로 since 이후 저장된 메시지 중 버퍼에 없는 메시지가 있는지 확인
+     * (다른 노드에서 발행된 메시지 공백 확인, 문서를 읽지 않고 (channelId, createdAt, _id) 인덱스만으로 판단)
+     */
+    private boolean isBufferComplete(String channelId, String since, List<ChatRoomSendMessageResponseDto> buffered) {
+        Message cursor = findCursorMessage(channelId, since);
+        List<ObjectId> bufferedIds = buffered.stream()
+                .map(message -> new ObjectId(message.getMessageId()))
                 .toList();
 
-        return new ChatRoomBeforeMessagesResponseDto(ChatRoomMessages.fromMessagesByChannelId(filteredMessages, channelId));
+        Query query = Query.query(Criteria.where("channelId").is(channelId).orOperator(
+                        Criteria.where("createdAt").gt(cursor.getCreatedAt()),
+                        new Criteria().andOperator(
+                                Criteria.where("createdAt").is(cursor.getCreatedAt()),
+                                Criteria.where("id").gt(new ObjectId(since)))))
+                .addCriteria(Criteria.where("id").nin(bufferedIds));
+        return !mongoTemplate.exists(query, Message.class);
+    }
+
+    /* db 조회 결과와 저장 대기중인 메시지를 합쳐 조회 방향 순서로 size 개까지 반환 (인스턴스 상태를 쓰지 않으므로 단위 테스트에서 직접 호출) */
+    static List<Message> mergePendingMessages(List<Message> stored, List<Message> pending, Message cursor, boolean isAfter, int size) {
+        if (pending.isEmpty()) {
+            return new ArrayList<>(stored);
+        }
+
+        Comparator<Message> order = Comparator.comparing(Message::getCreatedAt)
+                .thenComparing(message -> new ObjectId(message.getId()));
+        if (!isAfter) {
+            order = order.reversed();
+        }
+
+        Map<String, Message> merged = new HashMap<>();
+        stored.forEach(message -> merged.put(message.getId(), message));
+        for (Message message : pending) {
+            // 커서 이후(이전) 메시지만 포함
+            if (cursor != null && order.compare(message, cursor) <= 0) continue;
+            merged.putIfAbsent(message.getId(), message);
+        }
+
+        return merged.values().stream()
+                .sorted(order)
+                .limit(size)
+                .collect(Collectors.toCollection(ArrayList::new));
     }
 
-    /* 준비상태 변경에 따른 참여자 목록 */
-    public List<ChatRoomParticipantsListResponseDto> sendParticipantsList(String id, ChatRoomReadyStatusRequestDto chatRoomReadyStatusRequestDto) {
+    /* 커서로 사용된 메시지의 createdAt 조회 (발행 직후라 아직 저장되지 않은 메시지 먼저 확인) */
+    private Message findCursorMessage(String channelId, String messageId) {
+        Message pending = messageWriteBehindService.findPendingMessage(channelId, messageId);
+        if (pending != null) {
+            return pending;
+        }
+
+        Query query = Query.query(Criteria.where("id").is(new ObjectId(messageId)).and("channelId").is(channelId));
+        query.fields().include("createdAt");
+        Message cursor = mongoTemplate.findOne(query, Message.class);
+        if (cursor == null) {
+            throw new IllegalArgumentException("유효하지 않은 메시지 커서입니다.");
+        }
+        return cursor;
+    }
+
+    /* 준비상태 변경 (변경된 참여자 목록은 ParticipantsBroadcastCoalescer 로 전송) */
+    public void sendParticipantsList(String id, ChatRoomReadyStatusRequestDto chatRoomReadyStatusRequestDto) {
         ChatRoom chatRoom = chatRoomRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("해당 채팅방을 찾을 수 없습니다."));
         final String title = "참여자목록 불러오기";
@@ -667,50 +767,17 @@ public class ChatRoomService {
                 .orElseThrow(() -> new IllegalArgumentException("해당 member가 없습니다."));
 
 
-        for (SubChatRoom subChatRoom : chatRoom.getSubChatRooms()) {
-            if (subChatRoom.getType().equals(p.getRole())) {
-                subChatRoom.getParticipants().removeIf(participant -> participant.getMemberId().equals(p.getMemberId()));
-                break;
-            }
-        }
-
-        Participant updatedParticipant = Participant.builder()
-                .memberId(p.getMemberId())
-                .role(p.getRole())
-                .status(chatRoomReadyStatusRequestDto.getStatus())
-                .nickName(p.getNickName())
-                .build();
-
-        List<Participant> updatedParticipants = chatRoom.getParticipants().stream()
-                .map(participant -> participant.getMemberId().equals(p.getMemberId()) ? updatedParticipant : participant)
-                .toList();
-
-        ChatRoom updateChatRoom = chatRoom.toBuilder()
-                .participants(updatedParticipants)
-                .build();
-
-        for (SubChatRoom subChatRoom : chatRoom.getSubChatRooms()) {
-            if (subChatRoom.getType().equals(updatedParticipant.getRole())) {
-                subChatRoom.addParticipant(updatedParticipant);
-                break;
-            }
+        // 해당 참가자의 상태만 변경 (동시에 들어온 참가, 퇴장을 덮어쓰지 않음)
+        ChatRoom updateChatRoom = webSocketService.updateParticipantStatus(id, p, chatRoomReadyStatusRequestDto.getStatus(), null);
+        if (updateChatRoom == null) {
+            throw new IllegalArgumentException("해당 member가 없습니다.");
         }
-
-        chatRoomRepository.save(updateChatRoom);
-
-        return updateChatRoom.getParticipants().stream()
-                .map(participant -> new ChatRoomParticipantsListResponseDto(
-                        participant.getNickName(),
-                        participant.getRole(),
-                        participant.getStatus()
-                ))
-                .collect(Collectors.toList());
-
     }
 
     public ChatRoomSendMessageResponseDto sendChatMessage(String channelId, ChatRoomSendMessageRequestDto chatRoomSendMessageRequestDto) {
-        ChatRoom chatRoom = chatRoomRepository.findById(chatRoomSendMessageRequestDto.getId())
-                .orElseThrow(() -> new IllegalArgumentException("해당 채팅방이 존재하지 않습니다."));
+        // 메시지마다 채팅방 document 를 읽지 않도록 캐시된 채팅방 상태로 검증
+        // 다른 노드에서 참가한 경우를 위해 캐시에 없는 발신자면 한 번 다시 읽어서 확인
+        ChatRoomStateCache.RoomState roomState = chatRoomStateCache.getForNickName(chatRoomSendMessageRequestDto.getId(), chatRoomSendMessageRequestDto.getSender());
 
 //        final String main = "MAIN";
 
@@ -725,20 +792,16 @@ public class ChatRoomService {
 //            validateSubChannel(chatRoom, channelId, chatRoomSendMessageRequestDto.getType());
 //        }
 //        validateSubChannel(chatRoom, channelId, chatRoomSendMessageRequestDto.getType());
-        if (!chatRoom.getChannelId().equals(channelId)) {
-            validateSubChannel(chatRoom, channelId, chatRoomSendMessageRequestDto.getType());
+        if (!roomState.channelId().equals(channelId)) {
+            validateSubChannel(roomState, channelId, chatRoomSendMessageRequestDto.getType());
         }
 
-        List<Participant> participants = chatRoom.getParticipants();
-        if (participants == null || participants.isEmpty()) {
+        if (roomState.participantCount() == 0) {
             webSocketService.sendErrorMessage("채팅 메시지 예외", "참가자 목록이 없습니다.");
             return null;
         }
 
-        boolean isParticipantInRoom = participants.stream()
-                .anyMatch(participant ->
-                        participant.getNickName() != null && participant.getNickName().equals(chatRoomSendMessageRequestDto.getSender())
-                );
+        boolean isParticipantInRoom = roomState.hasNickName(chatRoomSendMessageRequestDto.getSender());
 
         // 참가자가 없는 경우
         if (!isParticipantInRoom) {
@@ -754,18 +817,22 @@ public class ChatRoomService {
                 .replyToMessageId(chatRoomSendMessageRequestDto.getReplyToMessageId().orElse(null))
                 .build();
 
-        messageRepository.save(message);
+        // id, 생성 시각을 먼저 발급하고 저장은 쓰기 지연 큐에서 bulk insert 로 처리
+        message.assignIdAndCreatedAt();
+        try {
+            messageWriteBehindService.enqueue(message);
+        } catch (IllegalArgumentException e) {
+            // 저장 대기 큐가 가득 찬 경우 (발행하지 않고 보낸 사람에게 알림)
+            webSocketService.sendErrorMessage("채팅 메시지 예외", e.getMessage());
+            throw e;
+        }
 
         return new ChatRoomSendMessageResponseDto(message.getId(), message.getType(), message.getSender(), message.getMessage().toString(), message.getReplyToMessageId(), message.getCreatedAt());
     }
 
     /* subchannel 유효성 검증 */
-    public void validateSubChannel(ChatRoom chatRoom, String channelId, String dtoType) {
-        Optional<SubChatRoom> subChannel = chatRoom.getSubChatRooms().stream()
-                .filter(subChatRoom -> subChatRoom.getSubChannelId().equals(channelId) && subChatRoom.getType().equals(dtoType))
-                .findAny();
-
-        if (!subChannel.isPresent()) {
+    public void validateSubChannel(ChatRoomStateCache.RoomState roomState, String channelId, String dtoType) {
+        if (!roomState.isSubChannel(channelId, dtoType)) {
             webSocketService.sendErrorMessage("채팅 메시지 예외", dtoType + " 채팅방이 아닙니다. channelId와 type을 다시 확인해주세요.");
             throw new IllegalArgumentException(dtoType + " 채팅방이 존재하지 않습니다.");
         }
@@ -781,36 +848,43 @@ public class ChatRoomService {
         if (!chatRoom.getOwnerId().equals(chatRoomStartRequestDto.getOwnerId()))
             throw new IllegalArgumentException("방장만 시작할 수 있습니다.");
 
-        boolean isPendingParticipant = chatRoom.getParticipants().stream().anyMatch(participant -> participant.getStatus().equals("PENDING"));
+        // 참가자 목록을 순회하지 않고 준비 완료 인원으로 확인 (방장은 준비 인원에서 제외)
+        boolean isPendingParticipant = chatRoom.getReadyCount() < chatRoom.getParticipants().size() - 1;
 
         if (isPendingParticipant) {
             throw new IllegalArgumentException("참가자 모두 준비상태여야 시작할 수 있습니다.");
         }
 
         if (chatRoom.getChatMode().equals("찬반")) {
-            long support = chatRoom.getParticipants().stream().filter(participant -> participant.getRole().equals("찬성")).count();
-            long opposite = chatRoom.getParticipants().stream().filter(participant -> participant.getRole().equals("반대")).count();
+            long support = chatRoom.getSupportCount();
+            long opposite = chatRoom.getOppositeCount();
 
             if (support < 1 || opposite < 1) throw new IllegalArgumentException("찬성, 반대 측이 최소 1명이상이어야 시작할 수 있습니다.");
         }
         if (chatRoom.getChatMode().equals("자유")) {
-            long free = chatRoom.getParticipants().stream().filter(participant -> participant.getRole().equals("자유")).count();
+            long free = chatRoom.getFreeCount();
             if (free < 2)
                 throw new IllegalArgumentException("인원이 최소 2명이상이어야 시작할 수 있습니다.");
         }
 
         ChatRoom updatedChatRoom = chatRoom.toBuilder()
                 .chatStatus("STARTED")
+                .progressMode(chatRoomStartRequestDto.getProgressMode() == null ? "TICK" : chatRoomStartRequestDto.getProgressMode())
                 .build();
 
-        chatRoomRepository.save(updatedChatRoom);
+        updateChatRoomFields(id, new Update()
+                .set("chatStatus", updatedChatRoom.getChatStatus())
+                .set("progressMode", updatedChatRoom.getProgressMode()));
+        chatRoomStateCache.evict(id);
 
         List<String> participantNickNames = updatedChatRoom.getParticipants()
                 .stream()
                 .map(Participant::getNickName)
                 .collect(Collectors.toList());
 
-        boolean isParticipant = subscriptionManager.isNickNameInList(participantNickNames);
+        // 이 노드에 연결된 참가자를 먼저 확인하고, 없으면 다른 노드의 접속 정보까지 확인
+        boolean isParticipant = subscriptionManager.isNickNameInList(id, participantNickNames)
+                || presenceService.isAnyOnline(id, participantNickNames);
 
         if (isParticipant) {
             if (chatRoom.getChatMode().equals("찬반")) webSocketService.progressDebateChatRoom(updatedChatRoom);
@@ -823,10 +897,7 @@ public class ChatRoomService {
     }
 
 
-    public void voteChat(String id, ChatRoomVoteRequestDto chatRoomVoteRequestDto) {
-
-        ChatRoom chatRoom = chatRoomRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("해당 채팅방이 존재하지 않습니다."));
+    public void voteChat(String id, ChatRoomVoteRequestDto chatRoomVoteRequestDto, String sessionId) {
 
         if (!chatRoomVoteRequestDto.getType().equals("VOTE")) {
             webSocketService.sendErrorMessage("투표", "type 형식이 잘못되었습니다.");
@@ -838,39 +909,31 @@ public class ChatRoomService {
                 throw new IllegalArgumentException("team 형식이 잘못되었습니다.");
             }
         }
-        boolean isMVP = chatRoom.getParticipants().stream().anyMatch(participant -> participant.getNickName().equals(chatRoomVoteRequestDto.getMvp()));
+        // 채팅방이 없으면 예외 발생
+        ChatRoomStateCache.RoomState roomState = chatRoomStateCache.getForNickName(id, chatRoomVoteRequestDto.getMvp());
+        boolean isMVP = roomState.hasNickName(chatRoomVoteRequestDto.getMvp());
         if (!isMVP) {
             webSocketService.sendErrorMessage("투표", "해당 닉네임을 가진 참가자가 없습니다.");
             throw new IllegalArgumentException("해당 닉네임을 가진 참가자가 없습니다.");
         }
 
-        int support = 0;
-        int opposite = 0;
-
-        ChatRoom updateChatRoom = chatRoom.toBuilder()
-                .vote(buildVote(chatRoomVoteRequestDto, support,opposite,chatRoom))
-                .build();
-
-        chatRoomRepository.save(updateChatRoom);
-
-    }
-
-
-    private Vote buildVote(ChatRoomVoteRequestDto chatRoomVoteRequestDto, int support, int opposite,ChatRoom chatRoom) {
-
-        Vote vote = chatRoom.getVote() != null ? chatRoom.getVote() : new Vote(0, 0, new ArrayList<>());
-
-        if (chatRoomVoteRequestDto.getTeam().equals("SUPPORT")) {
-            support++;
-        } else {
-            opposite++;
+        // 세션의 닉네임으로 투표자 확인
+        String voterNickName = subscriptionManager.searchNickName(sessionId);
+        Participant voter = chatRoomStateCache.getForNickName(id, voterNickName).findByNickName(voterNickName);
+        if (voter == null) {
+            webSocketService.sendErrorMessage("투표", "채팅방 참가자만 투표할 수 있습니다.");
+            throw new IllegalArgumentException("채팅방 참가자만 투표할 수 있습니다.");
         }
-        return vote.addMVP(chatRoomVoteRequestDto.getMvp())
-                .toBuilder()
-                .support(support)
-                .opposite(opposite)
-                .build();
 
+        if (voteAggregatorService.isClosed(id)) {
+            webSocketService.sendErrorMessage("투표", "투표가 종료되었습니다.");
+            throw new IllegalArgumentException("투표가 종료되었습니다.");
+        }
+        // 투표 시간 동안은 메모리에서 집계하고 투표 종료 시 db 에 반영 (중복 투표는 db 반영 전에 거절)
+        if (!voteAggregatorService.record(id, voter.getMemberId(), chatRoomVoteRequestDto.getTeam().orElse(null), chatRoomVoteRequestDto.getMvp())) {
+            webSocketService.sendErrorMessage("투표", "이미 투표하였습니다.");
+            throw new IllegalArgumentException("이미 투표하였습니다.");
+        }
     }
 
     /* 채팅방 목록 페이지 네이션 */
@@ -923,10 +986,8 @@ public class ChatRoomService {
                 .flatMap(p -> Optional.ofNullable(p.getNickName())) // null일 수 있는 nickName 처리
                 .orElse("Unknown");
 
-        int supportCount = (int) chatRoom.getParticipants().stream().filter(participant -> participant.getRole().equals("찬성"))
-                .count();
-        int oppositeCount = (int) chatRoom.getParticipants().stream().filter(participant -> participant.getRole().equals("반대"))
-                .count();
+        int supportCount = chatRoom.getSupportCount();
+        int oppositeCount = chatRoom.getOppositeCount();
 
         Integer currentParticipantsCount = null;
         if (chatRoom.getChatMode().equals("자유")) {
@@ -969,26 +1030,26 @@ public class ChatRoomService {
                 handleOwnerExit(chatRoom, participant);
             } else {
                 // 원자적 업데이트 수행
-                Update update = new Update().pull("participants",
-                        Query.query(Criteria.where("memberId").is(memberId)));
+                Update update = ChatRoom.participantRemoval(participant);
 
-                mongoTemplate.findAndModify(
-                        Query.query(Criteria.where("id").is(id)),
+                // 이미 제거된 경우 인원이 중복으로 감소하지 않도록 참가중인 경우에만 반영
+                ChatRoom exitedChatRoom = mongoTemplate.findAndModify(
+                        Query.query(Criteria.where("id").is(id).and("participants.memberId").is(memberId)),
                         update,
+                        FindAndModifyOptions.options().returnNew(true),
                         ChatRoom.class
                 );
-
-                if ("찬반".equals(chatRoom.getChatMode())) {
-                    removeParticipantFromSubChatRooms(chatRoom.getId(), memberId);
+                if (exitedChatRoom != null) {
+                    webSocketService.sendParticipantEvent(exitedChatRoom, "LEFT", participant);
                 }
             }
 
             deleteMember(memberId);
+            chatRoomStateCache.evict(id);
 
             // 변경된 데이터로 채팅방 다시 조회
             ChatRoom updatedChatRoom = mongoTemplate.findById(id, ChatRoom.class);
             if (updatedChatRoom != null) {
-                sendParticipantListUpdate(updatedChatRoom);
                 messageService.sendChatRoomMessage(
                         "EVENT",
                         participant.getNickName() + "님이 퇴장하셨습니다.",
@@ -1010,20 +1071,17 @@ public class ChatRoomService {
         List<Participant> availableParticipants = checkAvailableParticipants(chatRoom);
 
         // 1. 기존 방장을 참가자 목록에서 제거
-        Update ownerUpdate = new Update()
-                .pull("participants", Query.query(Criteria.where("memberId").is(participant.getMemberId())));
+        Update ownerUpdate = ChatRoom.participantRemoval(participant);
 
-        // 찬반 모드인 경우 서브채팅방에서도 제거
-        if ("찬반".equals(chatRoom.getChatMode())) {
-            ownerUpdate.pull("subChatRooms.$[].participants",
-                    new BasicDBObject("memberId", participant.getMemberId()));
-        }
-
-        mongoTemplate.findAndModify(
-                Query.query(Criteria.where("id").is(chatRoom.getId())),
+        ChatRoom exitedChatRoom = mongoTemplate.findAndModify(
+                Query.query(Criteria.where("id").is(chatRoom.getId()).and("participants.memberId").is(participant.getMemberId())),
                 ownerUpdate,
+                FindAndModifyOptions.options().returnNew(true),
                 ChatRoom.class
         );
+        if (exitedChatRoom != null) {
+            webSocketService.sendParticipantEvent(exitedChatRoom, "LEFT", participant);
+        }
 
         if (!availableParticipants.isEmpty()) {
             Participant newOwner = availableParticipants.get(0);
@@ -1054,39 +1112,16 @@ public class ChatRoomService {
                     ChatRoom.class
             );
 
-            mongoTemplate.updateFirst(
+            ChatRoom ownerChangedChatRoom = mongoTemplate.findAndModify(
                     Query.query(Criteria.where("id").is(chatRoom.getId())),
-                    new Update().push("participants", newOwnerParticipant),
+                    new Update().push("participants", newOwnerParticipant)
+                            .inc("readyCount", "READY".equals(newOwner.getStatus()) ? -1 : 0) // 방장은 준비 인원에서 제외
+                            .inc("participantsVersion", 1),
+                    FindAndModifyOptions.options().returnNew(true),
                     ChatRoom.class
             );
-
-            if ("찬반".equals(chatRoom.getChatMode())) {
-                // 서브채팅방 업데이트
-                for (SubChatRoom subChatRoom : chatRoom.getSubChatRooms()) {
-                    if (subChatRoom.getType().equals(updatedOwner.getRole())) {
-                        Query subChatRoomQuery = Query.query(
-                                new Criteria().andOperator(
-                                        Criteria.where("id").is(chatRoom.getId()),
-                                        Criteria.where("subChatRooms.type").is(subChatRoom.getType())
-                                )
-                        );
-
-                        // 서브채팅방에서 기존 참가자 제거
-                        mongoTemplate.updateFirst(
-                                subChatRoomQuery,
-                                new Update().pull("subChatRooms.$.participants",
-                                        new BasicDBObject("memberId", updatedOwner.getMemberId())),
-                                ChatRoom.class
-                        );
-
-                        // 새로운 방장 상태로 추가
-                        mongoTemplate.updateFirst(
-                                subChatRoomQuery,
-                                new Update().push("subChatRooms.$.participants", newOwnerParticipant),
-                                ChatRoom.class
-                        );
-                    }
-                }
+            if (ownerChangedChatRoom != null) {
+                webSocketService.sendParticipantEvent(ownerChangedChatRoom, "STATUS_CHANGED", updatedOwner);
             }
 
             // 최종적으로 방장 ID 업데이트
@@ -1096,10 +1131,40 @@ public class ChatRoomService {
                     ChatRoom.class
             );
         } else {
+            webSocketService.cancelProgress(chatRoom.getId());
             participantStatusSchedulerService.deleteSomething(chatRoom.getId());
         }
     }
 
+    /*
+     * 이전에 생성된 채팅방 문서 정리
+     * 역할별 인원 필드가 없으면 참가자 목록으로 계산하여 채움 (아직 채워지지 않은 경우에만 반영)
+     * 서브 채팅방에 중복 저장되어 있던 참가자 제거 (조회 시 메인 참가자 목록에서 구성)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillParticipantCounts() {
+        try {
+            List<ChatRoom> chatRooms = mongoTemplate.find(Query.query(Criteria.where("freeCount").exists(false)), ChatRoom.class);
+            for (ChatRoom chatRoom : chatRooms) {
+                chatRoom.refreshParticipantCounts();
+                mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(chatRoom.getId()).and("freeCount").exists(false)),
+                        new Update().set("supportCount", chatRoom.getSupportCount())
+                                .set("oppositeCount", chatRoom.getOppositeCount())
+                                .set("spectatorCount", chatRoom.getSpectatorCount())
+                                .set("freeCount", chatRoom.getFreeCount())
+                                .set("readyCount", chatRoom.getReadyCount()),
+                        ChatRoom.class);
+            }
+            if (!chatRooms.isEmpty()) log.info("채팅방 {}개 역할별 인원 필드 채움", chatRooms.size());
+
+            UpdateResult result = mongoTemplate.updateMulti(Query.query(Criteria.where("subChatRooms.participants").exists(true)),
+                    new Update().unset("subChatRooms.$[].participants"), ChatRoom.class);
+            if (result.getModifiedCount() > 0) log.info("채팅방 {}개 서브 채팅방 중복 참가자 제거", result.getModifiedCount());
+        } catch (DataAccessException e) {
+            log.warn("채팅방 역할별 인원 필드 채우기 실패 : {}", e.getMessage());
+        }
+    }
+
     // 방장 후보 체크 메서드 수정
     public List<Participant> checkAvailableParticipants(ChatRoom chatRoom) {
         return chatRoom.getParticipants().stream()
@@ -1109,31 +1174,7 @@ public class ChatRoomService {
     }
 
 
-    /* 서브채팅방 참가자 제거 메서드 */
-    private void removeParticipantFromSubChatRooms(String chatRoomId, String memberId) {
-        Update update = new Update().pull("subChatRooms.$[].participants",
-                Query.query(Criteria.where("memberId").is(memberId)));
-
-        mongoTemplate.findAndModify(
-                Query.query(Criteria.where("id").is(chatRoomId)),
-                update,
-                ChatRoom.class
-        );
-    }
-
     /* 참가자 목록 업데이트 전송 */
-    private void sendParticipantListUpdate(ChatRoom chatRoom) {
-        List<ChatRoomParticipantsListResponseDto> responseDto = chatRoom.getParticipants().stream()
-                .map(p -> new ChatRoomParticipantsListResponseDto(
-                        p.getNickName(),
-                        p.getRole(),
-                        p.getStatus()
-                ))
-                .collect(Collectors.toList());
-
-        messageSendingOperations.convertAndSend("/topic/" + chatRoom.getId() + ".participants.list", CommonResponseDto.success(responseDto));
-    }
-
     /* memberId 삭제 */
     public void deleteMember(String memberId) {
         mongoTemplate.remove(Query.query(Criteria.where("memberId").is(memberId)), Member.class);
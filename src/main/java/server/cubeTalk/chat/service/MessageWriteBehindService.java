@@ -0,0 +1,240 @@
+package server.cubeTalk.chat.service;
+
+import com.mongodb.bulk.BulkWriteError;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Service;
+import server.cubeTalk.chat.model.entity.Message;
+
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+ * 채팅 메시지를 큐에 모았다가 일정 개수 / 시간마다 bulk insert 로 저장 (쓰기 지연)
+ * 저장이 끝나기 전의 메시지는 findPendingMessage / findPendingMessages 로 조회 (이전 메시지 조회, 커서에서 db 보다 먼저 확인)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MessageWriteBehindService {
+
+    private static final int DUPLICATE_KEY_ERROR = 11000;
+
+    private final MongoTemplate mongoTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${chat.message.write-behind.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${chat.message.write-behind.batch-size:500}")
+    private int batchSize;
+
+    @Value("${chat.message.write-behind.flush-interval-ms:200}")
+    private long flushIntervalMs;
+
+    @Value("${chat.message.write-behind.offer-timeout-ms:50}")
+    private long offerTimeoutMs;
+
+    private BlockingQueue<Message> queue;
+    private ScheduledExecutorService flusher;
+    private final AtomicBoolean flushRequested = new AtomicBoolean(false);
+    private final Object flushLock = new Object();
+    // 저장이 끝날 때까지 조회에서 보이도록 channelId -> (id -> 메시지) 로 보관 (큐에서 꺼내 저장 중인 메시지, 재시도 대기 메시지 포함)
+    private final ConcurrentHashMap<String, ConcurrentHashMap<String, Message>> pendingByChannel = new ConcurrentHashMap<>();
+    // db 장애로 저장하지 못한 배치 (버리지 않고 다음 저장 주기에 먼저 재시도)
+    private final Deque<List<Message>> retryBatches = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger retryCount = new AtomicInteger();
+
+    private Counter flushedCounter;
+    private Counter failedCounter;
+    private Counter rejectedCounter;
+
+    @PostConstruct
+    public void init() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        Gauge.builder("chat.message.write_behind.queue.depth", queue, BlockingQueue::size)
+                .description("저장 대기중인 채팅 메시지 수")
+                .register(meterRegistry);
+        Gauge.builder("chat.message.write_behind.retry.depth", retryCount, AtomicInteger::get)
+                .description("저장 실패 후 재시도 대기중인 채팅 메시지 수")
+                .register(meterRegistry);
+        flushedCounter = Counter.builder("chat.message.write_behind.flushed")
+                .description("bulk insert 로 저장된 채팅 메시지 수")
+                .register(meterRegistry);
+        failedCounter = Counter.builder("chat.message.write_behind.failed")
+                .description("저장에 실패한 채팅 메시지 수 (재시도 대기 포함)")
+                .register(meterRegistry);
+        rejectedCounter = Counter.builder("chat.message.write_behind.rejected")
+                .description("저장 대기 큐가 가득 차 거절한 채팅 메시지 수")
+                .register(meterRegistry);
+
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "message-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /*
+     * 메시지를 저장 큐에 추가 (id, createdAt 은 호출 전에 발급되어 있어야 함)
+     * 호출 스레드에서 db 에 저장하지 않음, 큐 또는 재시도 대기가 가득 차면 잠깐 기다린 뒤 거절 (전송하지 않고 클라이언트에 에러)
+     */
+    public void enqueue(Message message) {
+        if (retryCount.get() >= queueCapacity) {
+            reject();
+        }
+
+        // 큐에 넣기 전에 먼저 보관해야 발행 직후의 조회에서도 보임
+        addPending(message);
+        boolean offered;
+        try {
+            offered = queue.offer(message, offerTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            offered = false;
+        }
+        if (!offered) {
+            removePending(message);
+            reject();
+        }
+
+        // 배치 크기만큼 쌓이면 시간 주기를 기다리지 않고 저장
+        if (queue.size() >= batchSize) {
+            requestFlush();
+        }
+    }
+
+    private void reject() {
+        rejectedCounter.increment();
+        requestFlush();
+        throw new IllegalArgumentException("메시지 전송이 많아 저장하지 못했습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    private void requestFlush() {
+        if (flushRequested.compareAndSet(false, true)) {
+            flusher.execute(() -> {
+                flushRequested.set(false);
+                flush();
+            });
+        }
+    }
+
+    /* 아직 저장되지 않은 메시지 조회, 없으면 null */
+    public Message findPendingMessage(String channelId, String messageId) {
+        ConcurrentHashMap<String, Message> pending = pendingByChannel.get(channelId);
+        return pending == null ? null : pending.get(messageId);
+    }
+
+    /* 채널의 아직 저장되지 않은 메시지 목록 (순서 보장 안 됨) */
+    public List<Message> findPendingMessages(String channelId) {
+        ConcurrentHashMap<String, Message> pending = pendingByChannel.get(channelId);
+        return pending == null ? List.of() : new ArrayList<>(pending.values());
+    }
+
+    /* 재시도 대기 배치를 먼저 저장한 뒤 현재 큐에 쌓인 메시지를 배치 단위로 저장 */
+    public void flush() {
+        synchronized (flushLock) {
+            // 이번 주기에 다시 실패한 배치로 무한 반복하지 않도록 시작 시점의 개수만큼만 처리
+            int retries = retryBatches.size();
+            for (int i = 0; i < retries; i++) {
+                List<Message> batch = retryBatches.pollFirst();
+                if (batch == null) break;
+                retryCount.addAndGet(-batch.size());
+                insertBatch(batch);
+            }
+
+            int pending = queue.size();
+            while (pending > 0) {
+                List<Message> batch = new ArrayList<>(Math.min(pending, batchSize));
+                queue.drainTo(batch, Math.min(pending, batchSize));
+                if (batch.isEmpty()) break;
+                pending -= batch.size();
+                insertBatch(batch);
+            }
+        }
+    }
+
+    private void insertBatch(List<Message> batch) {
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Message.class)
+                    .insert(batch)
+                    .execute();
+            flushedCounter.increment(batch.size());
+            batch.forEach(this::removePending);
+        } catch (BulkOperationException e) {
+            // unordered 이므로 실패한 문서를 제외한 나머지는 저장됨, 중복 id 는 이전 재시도에서 이미 저장된 메시지
+            Set<Integer> failedIndexes = new HashSet<>();
+            for (BulkWriteError error : e.getErrors()) {
+                if (error.getCode() != DUPLICATE_KEY_ERROR) failedIndexes.add(error.getIndex());
+            }
+            for (int i = 0; i < batch.size(); i++) {
+                if (!failedIndexes.contains(i)) removePending(batch.get(i));
+            }
+            flushedCounter.increment(batch.size() - failedIndexes.size());
+            if (!failedIndexes.isEmpty()) {
+                // 문서 자체가 거절된 경우라 재시도해도 저장되지 않음
+                failedCounter.increment(failedIndexes.size());
+                failedIndexes.forEach(index -> removePending(batch.get(index)));
+                log.error("채팅 메시지 {}건 저장 실패: {}", failedIndexes.size(), e.getMessage());
+            }
+        } catch (DataAccessException e) {
+            retryBatches.addLast(batch);
+            retryCount.addAndGet(batch.size());
+            failedCounter.increment(batch.size());
+            log.warn("채팅 메시지 저장 실패, {}건 재시도 대기: {}", batch.size(), e.getMessage());
+        }
+    }
+
+    private void addPending(Message message) {
+        pendingByChannel.computeIfAbsent(message.getChannelId(), k -> new ConcurrentHashMap<>())
+                .put(message.getId(), message);
+    }
+
+    /* db 에 반영된 (또는 유실된) 메시지 제거, 비어 있는 채널은 함께 제거 */
+    private void removePending(Message message) {
+        pendingByChannel.computeIfPresent(message.getChannelId(), (channelId, pending) -> {
+            pending.remove(message.getId());
+            return pending.isEmpty() ? null : pending;
+        });
+    }
+
+    /* 종료 시 남은 메시지를 모두 저장 */
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.info("종료 전 남은 채팅 메시지 {}건 저장", queue.size() + retryCount.get());
+        flush();
+        if (retryCount.get() > 0) {
+            log.error("종료 전 저장하지 못한 채팅 메시지 {}건", retryCount.get());
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package server.cubeTalk.chat.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+import server.cubeTalk.chat.handler.ChatRoomStateCache;
+import server.cubeTalk.common.util.RandomNicknameGenerator;
+import server.cubeTalk.member.model.entity.Member;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/*
+ * 채팅방별 닉네임 예약
+ * member 문서 저장이 곧 예약 (roomId + nickName 유니크 인덱스), 이미 사용중이면 DuplicateKeyException
+ * 퇴장 / 강퇴 시 member 삭제로 예약 해제
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NicknameReservationService {
+
+    private static final int MAX_ATTEMPTS = 10;
+
+    private final MongoTemplate mongoTemplate;
+    private final ChatRoomStateCache chatRoomStateCache;
+
+    /* 요청한 닉네임 예약, 채팅방에서 이미 사용중이면 false */
+    public boolean reserve(String roomId, String memberId, String nickName) {
+        try {
+            mongoTemplate.insert(Member.builder()
+                    .memberId(memberId)
+                    .nickName(nickName)
+                    .roomId(roomId)
+                    .build());
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    /* 채팅방에서 사용중이지 않은 랜덤 닉네임을 골라 예약 */
+    public String reserveRandom(String roomId, String memberId) {
+        // 캐시된 참가자 닉네임은 미리 제외 (캐시에 없는 경합은 유니크 인덱스로 걸러짐)
+        Set<String> taken = new HashSet<>(chatRoomStateCache.get(roomId).participantsByNickName().keySet());
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            String candidate = pickCandidate(taken);
+            if (reserve(roomId, memberId, candidate)) {
+                return candidate;
+            }
+            taken.add(candidate);
+        }
+        log.warn("채팅방 {} 랜덤 닉네임 배정 실패", roomId);
+        throw new IllegalArgumentException("닉네임을 배정하지 못했습니다. 다시 시도해주세요.");
+    }
+
+    /* 참가 실패 시 이번에 예약한 닉네임만 해제 (방장 생성 시 저장된 member, 이미 참가중인 member 는 남음) */
+    public void release(String roomId, String memberId, String nickName) {
+        mongoTemplate.remove(Query.query(Criteria.where("roomId").is(roomId).and("memberId").is(memberId).and("nickName").is(nickName)), Member.class);
+    }
+
+    /* 임의의 위치부터 사용중이지 않은 조합을 찾고, 모든 조합이 사용중이면 숫자를 붙임 */
+    private String pickCandidate(Set<String> taken) {
+        int combinations = RandomNicknameGenerator.combinations();
+        int start = ThreadLocalRandom.current().nextInt(combinations);
+        for (int suffix = 1; ; suffix++) {
+            for (int i = 0; i < combinations; i++) {
+                String candidate = RandomNicknameGenerator.nicknameAt((start + i) % combinations) + (suffix == 1 ? "" : suffix);
+                if (!taken.contains(candidate)) {
+                    return candidate;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package server.cubeTalk.chat.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import server.cubeTalk.chat.model.entity.Presence;
+import server.cubeTalk.common.util.NodeIdentity;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/*
+ * 노드 간 공유되는 채팅방 접속 정보
+ * 접속 / 해제 시 presence 문서를 저장 / 삭제하고, 노드별 heartbeat 로 만료 시각을 연장 (노드가 죽으면 TTL 로 정리)
+ * 조회는 채팅방별 near-cache 에서 응답하고 만료된 경우에만 db 조회
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PresenceService {
+
+    private final MongoTemplate mongoTemplate;
+    private final NodeIdentity nodeIdentity;
+
+    @Value("${chat.presence.ttl-seconds:30}")
+    private long ttlSeconds;
+
+    @Value("${chat.presence.near-cache-ms:2000}")
+    private long nearCacheMs;
+
+    // 채팅방 id -> 접속중인 닉네임 (다른 노드 포함)
+    private final ConcurrentHashMap<String, CachedPresence> nearCache = new ConcurrentHashMap<>();
+
+    /* 세션이 채팅방에 접속 */
+    public void join(String roomId, String nickName, String sessionId) {
+        Query query = Query.query(Criteria.where("_id").is(presenceId(sessionId)));
+        Update update = new Update()
+                .set("roomId", roomId)
+                .set("nickName", nickName)
+                .set("nodeId", nodeIdentity.getNodeId())
+                .set("expiresAt", nextExpiresAt());
+        try {
+            mongoTemplate.upsert(query, update, Presence.class);
+        } catch (DataAccessException e) {
+            log.warn("채팅방 {} 접속 정보 저장 실패 : {}", roomId, e.getMessage());
+        }
+        nearCache.remove(roomId);
+    }
+
+    /* 세션 연결 해제 */
+    public void leave(String roomId, String sessionId) {
+        try {
+            mongoTemplate.remove(Query.query(Criteria.where("_id").is(presenceId(sessionId))), Presence.class);
+        } catch (DataAccessException e) {
+            log.warn("채팅방 {} 접속 정보 삭제 실패 : {}", roomId, e.getMessage());
+        }
+        nearCache.remove(roomId);
+    }
+
+    /* 채팅방에 접속중인 닉네임 (모든 노드) */
+    public Set<String> findOnlineNickNames(String roomId) {
+        CachedPresence cached = nearCache.get(roomId);
+        if (cached != null && cached.loadedAt() + nearCacheMs > System.currentTimeMillis()) {
+            return cached.nickNames();
+        }
+
+        // TTL 인덱스는 주기적으로만 삭제하므로 만료 시각도 조건으로 확인
+        Query query = Query.query(Criteria.where("roomId").is(roomId).and("expiresAt").gt(new Date()));
+        query.fields().include("nickName");
+        Set<String> nickNames;
+        try {
+            nickNames = mongoTemplate.find(query, Presence.class).stream()
+                    .map(Presence::getNickName)
+                    .collect(Collectors.toUnmodifiableSet());
+        } catch (DataAccessException e) {
+            log.warn("채팅방 {} 접속 정보 조회 실패 : {}", roomId, e.getMessage());
+            return cached == null ? Set.of() : cached.nickNames();
+        }
+        nearCache.put(roomId, new CachedPresence(nickNames, System.currentTimeMillis()));
+        return nickNames;
+    }
+
+    /* 닉네임 중 하나라도 어느 노드에든 접속중인지 확인 */
+    public boolean isAnyOnline(String roomId, Collection<String> nickNames) {
+        Set<String> online = findOnlineNickNames(roomId);
+        return nickNames.stream().anyMatch(online::contains);
+    }
+
+    /* 이 노드의 접속 정보 만료 시각 연장 */
+    @Scheduled(fixedDelayString = "${chat.presence.heartbeat-interval-ms:10000}")
+    public void heartbeat() {
+        try {
+            mongoTemplate.updateMulti(Query.query(Criteria.where("nodeId").is(nodeIdentity.getNodeId())),
+                    new Update().set("expiresAt", nextExpiresAt()), Presence.class);
+        } catch (DataAccessException e) {
+            log.warn("접속 정보 heartbeat 실패 : {}", e.getMessage());
+        }
+        nearCache.entrySet().removeIf(entry -> entry.getValue().loadedAt() + nearCacheMs < System.currentTimeMillis());
+    }
+
+    /* 종료 시 이 노드의 접속 정보 삭제 (TTL 만료를 기다리지 않음) */
+    @PreDestroy
+    public void removeNodePresence() {
+        try {
+            mongoTemplate.remove(Query.query(Criteria.where("nodeId").is(nodeIdentity.getNodeId())), Presence.class);
+        } catch (DataAccessException e) {
+            log.warn("종료 전 접속 정보 삭제 실패 : {}", e.getMessage());
+        }
+    }
+
+    private String presenceId(String sessionId) {
+        return nodeIdentity.getNodeId() + ":" + sessionId;
+    }
+
+    private Date nextExpiresAt() {
+        return new Date(System.currentTimeMillis() + ttlSeconds * 1000);
+    }
+
+    private record CachedPresence(Set<String> nickNames, long loadedAt) {
+    }
+}
@@ -0,0 +1,88 @@
+package server.cubeTalk.chat.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+import server.cubeTalk.chat.model.entity.TimerLease;
+import server.cubeTalk.common.util.NodeIdentity;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/* 채팅방 타이머 리스 관리 (채팅방마다 한 노드만 타이머를 실행하도록 보장) */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TimerLeaseService {
+
+    private final MongoTemplate mongoTemplate;
+    private final NodeIdentity nodeIdentity;
+
+    @Value("${chat.timer.lease.duration-ms:15000}")
+    private long leaseDurationMs;
+
+    /* 리스가 없거나, 만료되었거나, 이미 이 노드 소유인 경우에만 획득 */
+    public boolean tryAcquire(String roomId) {
+        long now = System.currentTimeMillis();
+        Query query = Query.query(Criteria.where("_id").is(roomId)
+                .orOperator(Criteria.where("ownerNode").is(nodeIdentity.getNodeId()), Criteria.where("expiresAt").lt(now)));
+        Update update = new Update()
+                .set("ownerNode", nodeIdentity.getNodeId())
+                .set("expiresAt", now + leaseDurationMs);
+        try {
+            TimerLease lease = mongoTemplate.findAndModify(query, update,
+                    FindAndModifyOptions.options().upsert(true).returnNew(true), TimerLease.class);
+            return lease != null && nodeIdentity.getNodeId().equals(lease.getOwnerNode());
+        } catch (DuplicateKeyException e) {
+            // 다른 노드가 유효한 리스를 가지고 있어 upsert 가 _id 충돌
+            return false;
+        } catch (DataAccessException e) {
+            log.warn("채팅방 {} 타이머 리스 획득 실패 : {}", roomId, e.getMessage());
+            return false;
+        }
+    }
+
+    /* 보유중인 리스 만료 시각 연장, 여전히 이 노드 소유인 채팅방 id 반환 */
+    public Set<String> renew(Collection<String> roomIds) {
+        if (roomIds.isEmpty()) return Set.of();
+
+        Query owned = Query.query(Criteria.where("_id").in(roomIds).and("ownerNode").is(nodeIdentity.getNodeId()));
+        mongoTemplate.updateMulti(owned, new Update().set("expiresAt", System.currentTimeMillis() + leaseDurationMs), TimerLease.class);
+
+        Query ownedIds = Query.query(Criteria.where("_id").in(roomIds).and("ownerNode").is(nodeIdentity.getNodeId()));
+        ownedIds.fields().include("_id");
+        return mongoTemplate.find(ownedIds, TimerLease.class).stream()
+                .map(TimerLease::getRoomId)
+                .collect(Collectors.toSet());
+    }
+
+    /* 타이머 종료 시 리스 반납 (이 노드 소유인 경우만) */
+    public void release(String roomId) {
+        try {
+            mongoTemplate.remove(Query.query(Criteria.where("_id").is(roomId).and("ownerNode").is(nodeIdentity.getNodeId())), TimerLease.class);
+        } catch (DataAccessException e) {
+            log.warn("채팅방 {} 타이머 리스 반납 실패 : {}", roomId, e.getMessage());
+        }
+    }
+
+    /* 유효한 리스 목록 (채팅방 id -> 소유 노드) */
+    public Map<String, String> findActiveOwners() {
+        Query query = Query.query(Criteria.where("expiresAt").gte(System.currentTimeMillis()));
+        query.fields().include("_id", "ownerNode");
+        return mongoTemplate.find(query, TimerLease.class).stream()
+                .collect(Collectors.toMap(TimerLease::getRoomId, TimerLease::getOwnerNode));
+    }
+
+    /* 오래전에 만료된 리스 정리 (종료 처리 중 노드가 죽은 경우 등) */
+    public void purgeExpired(long expiredBeforeMillis) {
+        mongoTemplate.remove(Query.query(Criteria.where("expiresAt").lt(expiredBeforeMillis)), TimerLease.class);
+    }
+}
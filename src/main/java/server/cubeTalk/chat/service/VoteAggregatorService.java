@@ -0,0 +1,218 @@
+package server.cubeTalk.chat.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import server.cubeTalk.chat.model.entity.ChatRoom;
+import server.cubeTalk.chat.model.entity.MvpTally;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 투표 시간 동안 투표를 메모리에 모아두고 주기적으로 db 에 반영
+ * 투표 종료 시 결과 전송 직전에 반영하고, 노드 장애 대비로 짧은 주기마다 누적분을 반영
+ * 중복 투표 판단은 db 의 vote.voters 기준 (메모리의 투표자 목록은 이미 반영된 투표를 빨리 거르는 용도)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class VoteAggregatorService {
+
+    private final MongoTemplate mongoTemplate;
+
+    // 채팅방 id -> 아직 db 에 반영되지 않은 투표
+    private final ConcurrentHashMap<String, RoomVotes> roomVotesMap = new ConcurrentHashMap<>();
+    // 투표가 종료된 채팅방 id -> 종료 시각 (결과 전송 후 들어온 투표 거절)
+    private final ConcurrentHashMap<String, Long> closedRooms = new ConcurrentHashMap<>();
+
+    /*
+     * 투표 집계 (team 은 자유 모드에서 null), 이 노드에서 이미 투표한 참가자면 false
+     * 다른 노드에서 투표한 참가자는 반영 시 db 조건으로 걸러짐
+     */
+    public boolean record(String id, String memberId, String team, String mvp) {
+        if (isClosed(id)) {
+            return false;
+        }
+        RoomVotes roomVotes = roomVotesMap.get(id);
+        if (roomVotes == null) {
+            roomVotes = roomVotesMap.computeIfAbsent(id, k -> new RoomVotes(loadVoters(id)));
+        }
+        if (!roomVotes.voters.add(memberId)) {
+            return false;
+        }
+        roomVotes.pendingVotes.add(new PendingVote(memberId, team, mvp));
+        roomVotes.lastVotedAt = System.currentTimeMillis();
+        return true;
+    }
+
+    /* 다른 노드에서 또는 이전에 반영된 투표자 목록 (노드에서 처음 투표가 들어올 때 한 번만 조회) */
+    private Set<String> loadVoters(String id) {
+        Query query = Query.query(Criteria.where("_id").is(id));
+        query.fields().include("vote.voters");
+        ChatRoom chatRoom = mongoTemplate.findOne(query, ChatRoom.class);
+        if (chatRoom == null || chatRoom.getVote() == null || chatRoom.getVote().getVoters() == null) {
+            return Set.of();
+        }
+        return Set.copyOf(chatRoom.getVote().getVoters());
+    }
+
+    /* 투표가 종료된 채팅방인지 (이 노드에서 종료 처리한 경우) */
+    public boolean isClosed(String id) {
+        return closedRooms.containsKey(id);
+    }
+
+    /*
+     * 투표 종료 시 남은 투표 반영 후 집계 제거
+     * 이후 이 노드로 들어온 투표는 거절하고, db 에 종료 표시를 남겨 다른 노드에서 늦게 반영하는 투표도 집계되지 않도록 함
+     */
+    public void flushAndRemove(String id) {
+        closedRooms.put(id, System.currentTimeMillis());
+        RoomVotes roomVotes = roomVotesMap.remove(id);
+        if (roomVotes != null) {
+            flush(id, roomVotes);
+        }
+        try {
+            mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(id)), new Update().set("vote.closed", true), ChatRoom.class);
+        } catch (DataAccessException e) {
+            log.warn("채팅방 {} 투표 종료 표시 실패 : {}", id, e.getMessage());
+        }
+    }
+
+    /* 장애 대비 주기적 반영, 오랫동안 투표가 없는 채팅방 집계는 제거 */
+    @Scheduled(fixedDelayString = "${chat.vote.flush-interval-ms:1000}")
+    public void flushAll() {
+        long idleBefore = System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(10);
+        closedRooms.values().removeIf(closedAt -> closedAt < idleBefore);
+        roomVotesMap.forEach((id, roomVotes) -> {
+            flush(id, roomVotes);
+            if (roomVotes.lastVotedAt < idleBefore) {
+                roomVotesMap.remove(id, roomVotes);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushAll();
+    }
+
+    private void flush(String id, RoomVotes roomVotes) {
+        // 반영하는 동안 들어온 투표는 다음 반영 때 처리
+        List<PendingVote> votes = new ArrayList<>();
+        PendingVote pendingVote;
+        while ((pendingVote = roomVotes.pendingVotes.poll()) != null) votes.add(pendingVote);
+        if (votes.isEmpty()) return;
+
+        try {
+            ensureMvpTallies(id, roomVotes, votes);
+            if (applyVotes(id, votes) > 0) {
+                updateLeaders(id);
+            }
+        } catch (DataAccessException e) {
+            // 반영하지 못한 투표는 되돌려 다음 주기에 재시도 (이미 반영된 투표자는 조건에 걸려 다시 집계되지 않음)
+            log.warn("채팅방 {} 투표 반영 실패, 다음 주기에 재시도 : {}", id, e.getMessage());
+            roomVotes.pendingVotes.addAll(votes);
+            roomVotesMap.putIfAbsent(id, roomVotes);
+        }
+    }
+
+    /*
+     * 이번 배치에서 처음 나온 MVP 닉네임의 득표 항목을 0표로 추가 (이미 있으면 변경 없음)
+     * 투표 반영 시 positional $inc 만으로 득표 수를 올릴 수 있도록 미리 추가
+     */
+    private void ensureMvpTallies(String id, RoomVotes roomVotes, List<PendingVote> votes) {
+        Set<String> nickNames = new LinkedHashSet<>();
+        for (PendingVote vote : votes) {
+            if (!roomVotes.knownTallies.contains(vote.mvp())) nickNames.add(vote.mvp());
+        }
+        if (nickNames.isEmpty()) return;
+
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ChatRoom.class);
+        for (String nickName : nickNames) {
+            bulk.updateOne(Query.query(Criteria.where("_id").is(id).and("vote.mvpTally.nickName").ne(nickName)),
+                    new Update().push("vote.mvpTally", new MvpTally(nickName, 0)));
+        }
+        bulk.execute();
+        roomVotes.knownTallies.addAll(nickNames);
+    }
+
+    /*
+     * 투표자가 아직 vote.voters 에 없을 때만 팀 투표 수, MVP 득표 수 증가와 투표자 추가를 한 번에 반영
+     * 채팅방의 이번 배치 투표를 unordered bulk 한 번으로 전송, 다른 노드에서 같은 참가자가 투표했거나 재시도로 다시 반영하는 투표는 조건에 걸려 무시됨
+     * 반영된 투표 수 반환
+     */
+    private int applyVotes(String id, List<PendingVote> votes) {
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ChatRoom.class);
+        for (PendingVote vote : votes) {
+            Query query = Query.query(Criteria.where("_id").is(id).and("vote.voters").ne(vote.memberId()).and("vote.closed").ne(true));
+            Update update = new Update()
+                    .addToSet("vote.voters", vote.memberId())
+                    .inc("vote.mvpTally.$[t].count", 1)
+                    .filterArray(Criteria.where("t.nickName").is(vote.mvp()));
+            if ("SUPPORT".equals(vote.team())) update.inc("vote.support", 1);
+            else if ("OPPOSITE".equals(vote.team())) update.inc("vote.opposite", 1);
+            bulk.updateOne(query, update);
+        }
+        int applied = bulk.execute().getModifiedCount();
+        if (applied < votes.size()) {
+            log.debug("채팅방 {} 에 이미 반영된 투표자 {}명의 투표는 집계하지 않습니다.", id, votes.size() - applied);
+        }
+        return applied;
+    }
+
+    /*
+     * 반영 후 득표 수를 한 번 읽어 최다 득표자 갱신 (득표 수는 증가만 하므로 조건부 업데이트로 여러 노드에서 동시에 반영해도 안전)
+     * 최다 득표 수보다 많으면 교체, 같으면 동률로 추가
+     */
+    private void updateLeaders(String id) {
+        try {
+            Query tallyQuery = Query.query(Criteria.where("_id").is(id));
+            tallyQuery.fields().include("vote.mvpTally");
+            ChatRoom chatRoom = mongoTemplate.findOne(tallyQuery, ChatRoom.class);
+            if (chatRoom == null || chatRoom.getVote() == null || chatRoom.getVote().getMvpTally() == null) return;
+
+            int count = chatRoom.getVote().getMvpTally().stream().mapToInt(MvpTally::getCount).max().orElse(0);
+            if (count == 0) return;
+            List<String> leaders = chatRoom.getVote().getMvpTally().stream()
+                    .filter(tally -> tally.getCount() == count)
+                    .map(MvpTally::getNickName)
+                    .toList();
+
+            Query overtaken = Query.query(Criteria.where("_id").is(id)
+                    .orOperator(Criteria.where("vote.mvpLeaderCount").lt(count), Criteria.where("vote.mvpLeaderCount").exists(false)));
+            Update replace = new Update().set("vote.mvpLeaders", leaders).set("vote.mvpLeaderCount", count);
+            if (mongoTemplate.updateFirst(overtaken, replace, ChatRoom.class).getMatchedCount() > 0) return;
+
+            Query tied = Query.query(Criteria.where("_id").is(id).and("vote.mvpLeaderCount").is(count));
+            mongoTemplate.updateFirst(tied, new Update().addToSet("vote.mvpLeaders").each(leaders.toArray()), ChatRoom.class);
+        } catch (DataAccessException e) {
+            // 득표 수는 이미 반영되었으므로 재시도하지 않음 (다음 반영 때 다시 계산됨)
+            log.warn("채팅방 {} 최다 득표자 갱신 실패 : {}", id, e.getMessage());
+        }
+    }
+
+    private record PendingVote(String memberId, String team, String mvp) {
+    }
+
+    private static class RoomVotes {
+        private final Set<String> voters = ConcurrentHashMap.newKeySet(); // 이 노드에서 투표했거나 이미 반영된 memberId
+        private final Queue<PendingVote> pendingVotes = new ConcurrentLinkedQueue<>(); // db 에 반영되지 않은 투표
+        private final Set<String> knownTallies = ConcurrentHashMap.newKeySet(); // 득표 항목을 추가한 MVP 닉네임
+        private volatile long lastVotedAt = System.currentTimeMillis();
+
+        RoomVotes(Set<String> voters) {
+            this.voters.addAll(voters);
+        }
+    }
+}
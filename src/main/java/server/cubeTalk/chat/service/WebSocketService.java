@@ -3,28 +3,46 @@ package server.cubeTalk.chat.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
+import server.cubeTalk.chat.handler.ChatRoomExistenceCache;
+import server.cubeTalk.chat.handler.ChatRoomStateCache;
+import server.cubeTalk.chat.handler.ParticipantsBroadcastCoalescer;
+import server.cubeTalk.chat.handler.RecentMessageBuffer;
 import server.cubeTalk.chat.model.dto.ChatRoomCommonMessageResponseDto;
-import server.cubeTalk.chat.model.dto.ChatRoomParticipantsListResponseDto;
 import server.cubeTalk.chat.model.dto.ChatRoomProgressResponseDto;
 import server.cubeTalk.chat.model.dto.ChatRoomVoteResultResponseDto;
 import server.cubeTalk.chat.model.entity.ChatRoom;
 import server.cubeTalk.chat.model.entity.DebateSettings;
 import server.cubeTalk.chat.model.entity.Participant;
-import server.cubeTalk.chat.model.entity.SubChatRoom;
+import server.cubeTalk.chat.model.entity.Vote;
 import server.cubeTalk.chat.repository.ChatRoomRepository;
 import server.cubeTalk.common.dto.CommonResponseDto;
 import server.cubeTalk.common.service.ParticipantStatusSchedulerService;
 import server.cubeTalk.common.util.DateTimeUtils;
+import server.cubeTalk.common.util.HashedWheelTimer;
+import server.cubeTalk.common.util.NodeIdentity;
 
 
+import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.stream.Collectors;
+import java.util.function.BooleanSupplier;
 
 @Service
 @RequiredArgsConstructor
@@ -33,112 +51,380 @@ public class WebSocketService {
     private final SimpMessagingTemplate messagingTemplate;
     private final ChatRoomRepository chatRoomRepository;
     private final ParticipantStatusSchedulerService participantStatusSchedulerService;
-    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
+    private final ChatRoomStateCache chatRoomStateCache;
+    private final ParticipantsBroadcastCoalescer participantsBroadcastCoalescer;
+    private final HashedWheelTimer roomTimer;
+    private final MongoTemplate mongoTemplate;
+    private final TimerLeaseService timerLeaseService;
+    private final NodeIdentity nodeIdentity;
+    private final VoteAggregatorService voteAggregatorService;
+    private final ChatRoomExistenceCache chatRoomExistenceCache;
+    private final RecentMessageBuffer recentMessageBuffer;
+    // 채팅방 id -> 진행중인 타이머 핸들
+    private final ConcurrentHashMap<String, RoomTimerHandle> roomTimerHandles = new ConcurrentHashMap<>();
     private boolean isVoteEnd = false;
+
+    @Value("${chat.timer.progress-resync-seconds:15}")
+    private long progressResyncSeconds;
+
+    @Value("${chat.vote.final-grace-ms:1500}")
+    private long voteFinalGraceMs;
+
     public void sendErrorMessage(String title, String errorMessage) {
         messagingTemplate.convertAndSend("/topic/error", CommonResponseDto.CommonResponseSocketErrorDto.error(title,errorMessage));
     }
 
     /* 채팅방 진행 (자유) */
     public void progressFreeChatRoom(ChatRoom chatRoom) {
+        if (acquireLease(chatRoom.getId())) {
+            startProgress(chatRoom, 0, System.currentTimeMillis());
+        }
+    }
+
+    /* 채팅방 진행 (찬반)*/
+    public void progressDebateChatRoom(ChatRoom chatRoom) {
+        if (chatRoom.getChatMode().equals("찬반") && acquireLease(chatRoom.getId())) {
+            startProgress(chatRoom, 0, System.currentTimeMillis());
+        }
+    }
+
+    private boolean acquireLease(String id) {
+        if (timerLeaseService.tryAcquire(id)) return true;
+        log.info("채팅방 {} 타이머는 다른 노드에서 진행중입니다.", id);
+        return false;
+    }
+
+    /* 보유중인 타이머 리스 연장, 다른 노드로 넘어간 채팅방은 이 노드에서 타이머 중지 */
+    @Scheduled(fixedDelayString = "${chat.timer.lease.renew-interval-ms:5000}")
+    public void renewTimerLeases() {
+        Set<String> running = Set.copyOf(roomTimerHandles.keySet());
+        if (running.isEmpty()) return;
+        try {
+            Set<String> owned = timerLeaseService.renew(running);
+            for (String id : running) {
+                if (!owned.contains(id)) {
+                    log.warn("채팅방 {} 타이머 리스를 잃어 이 노드의 타이머를 중지합니다.", id);
+                    stopLocalTimer(id);
+                }
+            }
+        } catch (DataAccessException e) {
+            // 리스가 만료되기 전까지는 계속 진행, 다음 주기에 재시도
+            log.warn("타이머 리스 갱신 실패 : {}", e.getMessage());
+        }
+    }
+
+    /*
+     * 재시작 / 배포 / 노드 장애로 리스가 없거나 만료된 진행중 채팅방을 저장된 단계부터 이어서 진행
+     * 노드별 보유 채팅방 수가 고르게 되도록 평균 이상 보유중이면 이어받지 않음
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${chat.timer.lease.takeover-interval-ms:10000}", fixedDelayString = "${chat.timer.lease.takeover-interval-ms:10000}")
+    public void takeOverOrphanedRooms() {
+        List<ChatRoom> orphanedRooms;
+        Map<String, String> activeOwners;
+        try {
+            activeOwners = timerLeaseService.findActiveOwners();
+            orphanedRooms = findOrphanedRooms(activeOwners.keySet());
+            timerLeaseService.purgeExpired(System.currentTimeMillis() - TimeUnit.HOURS.toMillis(1));
+        } catch (DataAccessException e) {
+            log.error("진행중인 채팅방 조회 실패, 타이머를 이어받지 않습니다 : {}", e.getMessage());
+            return;
+        }
+        if (orphanedRooms.isEmpty()) return;
+
+        Set<String> owners = new HashSet<>(activeOwners.values());
+        owners.add(nodeIdentity.getNodeId());
+        long fairShare = (activeOwners.size() + orphanedRooms.size() + owners.size() - 1) / owners.size();
+        long ownedCount = activeOwners.values().stream().filter(nodeIdentity.getNodeId()::equals).count();
+
+        for (ChatRoom chatRoom : orphanedRooms) {
+            if (ownedCount >= fairShare) break;
+            try {
+                if (resumeProgress(chatRoom)) ownedCount++;
+            } catch (Exception e) {
+                log.error("채팅방 {} 진행 복구 실패 : {}", chatRoom.getId(), e.getMessage());
+            }
+        }
+    }
+
+    /*
+     * 진행중이지만 살아있는 리스도, 이 노드의 타이머도 없는 채팅방 조회
+     * 참여자, 메시지 등은 읽지 않고 진행 복구(resumeProgress)에 필요한 필드만 조회
+     */
+    private List<ChatRoom> findOrphanedRooms(Set<String> leasedRoomIds) {
+        Set<String> excludedIds = new HashSet<>(leasedRoomIds);
+        excludedIds.addAll(roomTimerHandles.keySet());
+
+        Query query = Query.query(Criteria.where("chatStatus").is("STARTED")
+                .and("progressPhase").nin(null, "result")
+                .and("_id").nin(excludedIds));
+        query.fields().include("progressPhase", "phaseStartedAt", "phaseDeadline", "progressMode",
+                "chatMode", "chatDuration", "debateSettings");
+        return mongoTemplate.find(query, ChatRoom.class);
+    }
+
+    /* 저장된 단계부터 진행 재개, 리스를 획득하지 못하면 false */
+    public boolean resumeProgress(ChatRoom chatRoom) {
+        List<ChatRoomProgressResponseDto.PhaseDuration> phases = progressPhases(chatRoom);
+        int index = 0;
+        while (index < phases.size() && !phases.get(index).type().equals(chatRoom.getProgressPhase())) index++;
+        if (index == phases.size() || chatRoom.getPhaseStartedAt() == null) {
+            log.warn("채팅방 {} 의 저장된 진행 단계({})를 찾을 수 없어 복구하지 않습니다.", chatRoom.getId(), chatRoom.getProgressPhase());
+            return false;
+        }
+        if (!timerLeaseService.tryAcquire(chatRoom.getId())) return false;
+
+        // 멈춰있던 동안 마감된 단계는 건너뜀 (단계 시간은 고정이므로 저장된 시작 시각부터 계산)
+        long phaseStartedAt = chatRoom.getPhaseStartedAt();
+        long now = System.currentTimeMillis();
+        while (index < phases.size() && phaseStartedAt + TimeUnit.SECONDS.toMillis(phases.get(index).durationSeconds()) <= now) {
+            phaseStartedAt += TimeUnit.SECONDS.toMillis(phases.get(index).durationSeconds());
+            index++;
+        }
+
+        log.info("채팅방 {} 진행 복구 : {}", chatRoom.getId(), index < phases.size() ? phases.get(index).type() : "종료");
+        if (index == phases.size()) {
+            finishProgress(chatRoom.getId(), progressFinished(chatRoom));
+            return true;
+        }
+        startProgress(chatRoom, index, phaseStartedAt);
+        return true;
+    }
+
+    private void startProgress(ChatRoom chatRoom, int index, long phaseStartedAt) {
+        RoomTimerHandle handle = startRoomTimer(chatRoom.getId());
+        enterPhase(handle, chatRoom.getId(), isDeadlineMode(chatRoom), progressPhases(chatRoom), index, phaseStartedAt, progressFinished(chatRoom));
+    }
+
+    private Runnable progressFinished(ChatRoom chatRoom) {
         String id = chatRoom.getId();
-        double chatDuration = chatRoom.getChatDuration();
+        if (chatRoom.getChatMode().equals("찬반")) {
+            return () -> {
+                // 투표 종료 처리
+                isVoteEnd = true;
+                sendFinalResults(id);
+            };
+        }
+        return () -> sendFinalResults(id); // 투표 결과 전송
+    }
 
-        AtomicLong totalDurationInSeconds = new AtomicLong((long) (chatDuration * 60));
-//        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
+    /* 채팅방 진행 순서 */
+    private List<ChatRoomProgressResponseDto.PhaseDuration> progressPhases(ChatRoom chatRoom) {
+        if (chatRoom.getChatMode().equals("찬반")) {
+            return debatePhases(chatRoom.getDebateSettings());
+        }
 
-        scheduler.scheduleAtFixedRate(() -> {
-            long remainingSeconds = totalDurationInSeconds.decrementAndGet();
+        long totalSeconds = (long) (chatRoom.getChatDuration() * 60);
+        // DEADLINE 모드는 마지막 30초를 투표 시간 단계로 전송, TICK 모드는 30초 남았을 때 투표 시간 메시지 전송
+        if (isDeadlineMode(chatRoom) && totalSeconds > 30) {
+            return List.of(new ChatRoomProgressResponseDto.PhaseDuration("free", totalSeconds - 30),
+                    new ChatRoomProgressResponseDto.PhaseDuration("votingTime", 30));
+        }
+        return List.of(new ChatRoomProgressResponseDto.PhaseDuration(isDeadlineMode(chatRoom) ? "votingTime" : "free", totalSeconds));
+    }
 
-            // 남은 시간을 포맷팅하여 메시지 전송
-            String remainingTime = formatDuration(remainingSeconds);
+    /* 찬반 토론 진행 순서 */
+    private List<ChatRoomProgressResponseDto.PhaseDuration> debatePhases(DebateSettings debateSettings) {
+        return List.of(
+                new ChatRoomProgressResponseDto.PhaseDuration("positiveEntry", TimeUnit.MINUTES.toSeconds(debateSettings.getPositiveEntry())),
+                new ChatRoomProgressResponseDto.PhaseDuration("negativeQuestioning", TimeUnit.MINUTES.toSeconds(debateSettings.getNegativeQuestioning())),
+                new ChatRoomProgressResponseDto.PhaseDuration("negativeEntry", TimeUnit.MINUTES.toSeconds(debateSettings.getNegativeEntry())),
+                new ChatRoomProgressResponseDto.PhaseDuration("positiveQuestioning", TimeUnit.MINUTES.toSeconds(debateSettings.getPositiveQuestioning())),
+                new ChatRoomProgressResponseDto.PhaseDuration("positiveRebuttal", TimeUnit.MINUTES.toSeconds(debateSettings.getPositiveRebuttal())),
+                new ChatRoomProgressResponseDto.PhaseDuration("negativeRebuttal", TimeUnit.MINUTES.toSeconds(debateSettings.getNegativeRebuttal())),
+                new ChatRoomProgressResponseDto.PhaseDuration("votingTime", (long) (debateSettings.getVotingTime() * 60))
+        );
+    }
 
-            // 자유 토론 진행 메시지 전송
-            ChatRoomProgressResponseDto.ChatRoomBasicProgressResponse progressResponse =
-                    ChatRoomProgressResponseDto.ChatRoomBasicProgressResponse.progress("free", remainingTime, "타이머 전송 중..");
+    /* 단계 시작 : 현재 단계를 저장한 뒤 진행 방식에 따라 타이머 등록 */
+    private void enterPhase(RoomTimerHandle handle, String id, boolean deadlineMode, List<ChatRoomProgressResponseDto.PhaseDuration> phases,
+                            int index, long phaseStartedAt, Runnable onFinished) {
+        ChatRoomProgressResponseDto.PhaseDuration phase = phases.get(index);
+        long deadline = phaseStartedAt + TimeUnit.SECONDS.toMillis(phase.durationSeconds());
+        savePhase(id, phase.type(), phaseStartedAt, deadline);
+
+        // 다음 단계는 현재 단계 마감 시각부터 시작 (지연이 누적되지 않도록)
+        Runnable next = () -> {
+            log.info("{} 완료됨, 다음 단계로 이동", phase.type());
+            if (index + 1 < phases.size()) {
+                enterPhase(handle, id, deadlineMode, phases, index + 1, deadline, onFinished);
+            } else {
+                // 다른 노드에 집계된 투표가 반영될 때까지 기다린 뒤 결과 전송
+                schedule(handle, voteFinalGraceMs, () -> {
+                    roomTimerHandles.remove(id, handle); // 타이머 종료 (다른 채팅방 타이머에는 영향 없음)
+                    finishProgress(id, onFinished);
+                });
+            }
+        };
+
+        if (deadlineMode) {
+            sendDeadlineProgress(id, phase, phaseStartedAt, deadline, phases, "단계 시작");
+            scheduleDeadlineCheck(handle, id, phase, phases, phaseStartedAt, deadline, next);
+        } else {
+            long remainingSeconds = Math.max(TimeUnit.MILLISECONDS.toSeconds(deadline - System.currentTimeMillis() + 999), 0);
+            startTickPhase(handle, id, phase.type(), remainingSeconds, next);
+        }
+    }
+
+    /* 결과 전송 후 종료 단계로 저장하고 리스 반납 (다른 노드에서 다시 이어받지 않도록) */
+    private void finishProgress(String id, Runnable onFinished) {
+        try {
+            voteAggregatorService.flushAndRemove(id); // 이 노드에 남은 투표 반영
+            onFinished.run();
+        } finally {
+            long now = System.currentTimeMillis();
+            savePhase(id, "result", now, now);
+            timerLeaseService.release(id);
+            // 종료된 채팅방의 재연결용 최근 메시지는 더 이상 필요 없음 (이후 조회는 db 에서)
+            recentMessageBuffer.removeRoom(chatRoomExistenceCache.findLayout(id));
+        }
+    }
 
+    /* 현재 단계 저장 (다른 필드를 덮어쓰지 않도록 부분 업데이트) */
+    private void savePhase(String id, String phase, long phaseStartedAt, long deadline) {
+        try {
+            mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(id)),
+                    new Update().set("progressPhase", phase).set("phaseStartedAt", phaseStartedAt).set("phaseDeadline", deadline),
+                    ChatRoom.class);
+        } catch (DataAccessException e) {
+            // 저장에 실패해도 이 노드의 타이머는 계속 진행
+            log.warn("채팅방 {} 진행 단계 저장 실패 : {}", id, e.getMessage());
+        }
+    }
+
+    /* 1초마다 남은 시간 전송 (기존 클라이언트용) */
+    private void startTickPhase(RoomTimerHandle handle, String id, String phase, long remainingSeconds, Runnable next) {
+        AtomicLong phaseDuration = new AtomicLong(remainingSeconds);
+
+        repeatEverySecond(handle, () -> {
+            long remainingPhaseSeconds = phaseDuration.decrementAndGet();
+
+            String remainingTime = formatDuration(Math.max(remainingPhaseSeconds, 0));
+
+            // 현재 단계 상태를 전송
+            ChatRoomProgressResponseDto.ChatRoomBasicProgressResponse progressResponse =
+                    ChatRoomProgressResponseDto.ChatRoomBasicProgressResponse.progress(phase, remainingTime, "타이머 전송 중..");
             messagingTemplate.convertAndSend("/topic/progress." + id, progressResponse);
 
-            // 남은 시간이 30초일 때 투표 시간 메시지 전송
-            if (remainingSeconds == 30) {
+            // 자유 토론은 남은 시간이 30초일 때 투표 시간 메시지 전송
+            if (phase.equals("free") && remainingPhaseSeconds == 30) {
                 ChatRoomProgressResponseDto.ChatRoomBasicProgressResponse votingTimeResponse =
                         ChatRoomProgressResponseDto.ChatRoomBasicProgressResponse.progress("votingTime", "00:00:00", "타이머 전송 중..");
 
                 messagingTemplate.convertAndSend("/topic/progress." + id, votingTimeResponse);
             }
 
-            // 시간이 다 되었을 때 타이머 종료
-            if (remainingSeconds <= 0) {
-                scheduler.shutdown(); // 타이머 종료
-                sendFinalResults(id); // 투표 결과 전송
+            if (remainingPhaseSeconds > 0) {
+                return true;
             }
-        }, 0, 1, TimeUnit.SECONDS);
+            next.run();
+            return false;
+        });
+    }
 
+    /*
+     * 단계가 바뀔 때만 마감 시각(서버 기준 epoch millis)을 전송하고 클라이언트가 직접 카운트다운
+     * 시계 오차 보정을 위해 resync 주기마다 같은 단계 정보를 다시 전송
+     */
+    private void scheduleDeadlineCheck(RoomTimerHandle handle, String id, ChatRoomProgressResponseDto.PhaseDuration phase,
+                                       List<ChatRoomProgressResponseDto.PhaseDuration> phases, long phaseStartedAt, long deadline, Runnable next) {
+        long delay = Math.min(TimeUnit.SECONDS.toMillis(progressResyncSeconds), deadline - System.currentTimeMillis());
+
+        schedule(handle, delay, () -> {
+            if (System.currentTimeMillis() < deadline) {
+                sendDeadlineProgress(id, phase, phaseStartedAt, deadline, phases, "resync");
+                scheduleDeadlineCheck(handle, id, phase, phases, phaseStartedAt, deadline, next);
+                return;
+            }
+            next.run();
+        });
     }
 
-    /* 채팅방 진행 (찬반)*/
-    public void progressDebateChatRoom(ChatRoom chatRoom) {
+    private void sendDeadlineProgress(String id, ChatRoomProgressResponseDto.PhaseDuration phase, long phaseStartedAt, long deadline,
+                                      List<ChatRoomProgressResponseDto.PhaseDuration> phases, String message) {
+        ChatRoomProgressResponseDto.ChatRoomDeadlineProgressResponse progressResponse =
+                ChatRoomProgressResponseDto.ChatRoomDeadlineProgressResponse.progress(
+                        phase.type(), phaseStartedAt, deadline, System.currentTimeMillis(), phase.durationSeconds(), phases, message);
+        messagingTemplate.convertAndSend("/topic/progress." + id, progressResponse);
+    }
 
-        String id = chatRoom.getId();
-        DebateSettings debateSettings = chatRoom.getDebateSettings();
-        double chatDuration = chatRoom.getChatDuration();
+    private boolean isDeadlineMode(ChatRoom chatRoom) {
+        return "DEADLINE".equals(chatRoom.getProgressMode());
+    }
 
-        if (chatRoom.getChatMode().equals("찬반")) {
-            AtomicLong totalDurationInSeconds = new AtomicLong((long) (chatDuration * 60));
+    /* 채팅방 타이머 시작 (같은 채팅방에서 진행중인 타이머가 있으면 취소) */
+    private RoomTimerHandle startRoomTimer(String id) {
+        RoomTimerHandle handle = new RoomTimerHandle();
+        RoomTimerHandle previous = roomTimerHandles.put(id, handle);
+        if (previous != null) {
+            previous.cancel();
+        }
+        return handle;
+    }
 
-            // 단계별 타이머 스케줄링
-            startPhase("positiveEntry", TimeUnit.MINUTES.toSeconds(debateSettings.getPositiveEntry()), totalDurationInSeconds, id, debateSettings);
+    /* 채팅방 진행 타이머 취소 (채팅방 삭제 등) */
+    public void cancelProgress(String id) {
+        stopLocalTimer(id);
+        timerLeaseService.release(id);
+    }
+
+    private void stopLocalTimer(String id) {
+        RoomTimerHandle handle = roomTimerHandles.remove(id);
+        if (handle != null) {
+            handle.cancel();
         }
     }
 
-    private void startPhase(String phase, long duration, AtomicLong totalDurationInSeconds, String id, DebateSettings debateSettings) {
-        // 새로운 스케줄러를 각 단계마다 생성
-//        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
-        AtomicLong phaseDuration = new AtomicLong(duration);
+    /*
+     * 공유 타이머 휠에 1초 간격으로 tick 등록 (첫 tick 은 바로), tick 이 false 를 반환하면 반복 종료
+     * n 번째 tick 은 시작 시각 + n 초에 실행되도록 매번 남은 시간으로 등록 (휠 지연, tick 실행 시간이 누적되지 않음)
+     */
+    private void repeatEverySecond(RoomTimerHandle handle, BooleanSupplier tick) {
+        scheduleTick(handle, System.currentTimeMillis(), 0, tick);
+    }
 
-        scheduler.scheduleAtFixedRate(() -> {
-            long remainingPhaseSeconds = phaseDuration.decrementAndGet();
+    private void scheduleTick(RoomTimerHandle handle, long startedAt, long tickIndex, BooleanSupplier tick) {
+        long delay = Math.max(0, startedAt + TimeUnit.SECONDS.toMillis(tickIndex) - System.currentTimeMillis());
+        schedule(handle, delay, () -> {
+            if (tick.getAsBoolean()) {
+                scheduleTick(handle, startedAt, tickIndex + 1, tick);
+            }
+        });
+    }
 
-            String remainingTime = formatDuration(remainingPhaseSeconds);
+    /* 공유 타이머 휠에 작업 등록 (핸들이 취소되었으면 실행하지 않음) */
+    private void schedule(RoomTimerHandle handle, long delayMillis, Runnable task) {
+        handle.schedule(roomTimer.newTimeout(() -> {
+            if (handle.isCancelled()) return;
+            task.run();
+        }, delayMillis, TimeUnit.MILLISECONDS));
+    }
 
-            // 현재 단계 상태를 전송
-            ChatRoomProgressResponseDto.ChatRoomBasicProgressResponse progressResponse =
-                    ChatRoomProgressResponseDto.ChatRoomBasicProgressResponse.progress(phase, remainingTime, "타이머 전송 중..");
-            messagingTemplate.convertAndSend("/topic/progress." + id, progressResponse);
+    /* 채팅방별 타이머 핸들 (현재 등록된 tick 을 취소할 수 있도록 보관) */
+    private static class RoomTimerHandle {
+        private volatile boolean cancelled;
+        private volatile HashedWheelTimer.Timeout current;
 
-            if (remainingPhaseSeconds <= 0) {
-                scheduler.shutdown(); // 현재 단계 타이머 종료
-                System.out.println(phase + " 완료됨, 다음 단계로 이동");
-
-                // 다음 단계로 이동
-                switch (phase) {
-                    case "positiveEntry":
-                        startPhase("negativeQuestioning", TimeUnit.MINUTES.toSeconds(debateSettings.getNegativeQuestioning()), totalDurationInSeconds, id, debateSettings);
-                        break;
-                    case "negativeQuestioning":
-                        startPhase("negativeEntry", TimeUnit.MINUTES.toSeconds(debateSettings.getNegativeEntry()), totalDurationInSeconds, id, debateSettings);
-                        break;
-                    case "negativeEntry":
-                        startPhase("positiveQuestioning", TimeUnit.MINUTES.toSeconds(debateSettings.getPositiveQuestioning()), totalDurationInSeconds, id, debateSettings);
-                        break;
-                    case "positiveQuestioning":
-                        startPhase("positiveRebuttal", TimeUnit.MINUTES.toSeconds(debateSettings.getPositiveRebuttal()), totalDurationInSeconds, id, debateSettings);
-                        break;
-                    case "positiveRebuttal":
-                        startPhase("negativeRebuttal", TimeUnit.MINUTES.toSeconds(debateSettings.getNegativeRebuttal()), totalDurationInSeconds, id, debateSettings);
-                        break;
-                    case "negativeRebuttal":
-                        startPhase("votingTime", TimeUnit.SECONDS.toSeconds((long) (debateSettings.getVotingTime() * 60)), totalDurationInSeconds, id, debateSettings);
-                        break;
-                    case "votingTime":
-                        // 투표 종료 처리
-                        isVoteEnd = true;
-                        sendFinalResults(id);
-                        break;
-                }
+        void schedule(HashedWheelTimer.Timeout timeout) {
+            current = timeout;
+            if (cancelled) {
+                timeout.cancel();
             }
-        }, 0, 1, TimeUnit.SECONDS);
+        }
+
+        void cancel() {
+            cancelled = true;
+            HashedWheelTimer.Timeout timeout = current;
+            if (timeout != null) {
+                timeout.cancel();
+            }
+        }
+
+        boolean isCancelled() {
+            return cancelled;
+        }
     }
+
     // 투표 결과와 MVP를 계산하여 전송하는 함수
     public void sendFinalResults(String chatRoomId) {
         ChatRoom chatRoom = chatRoomRepository.findById(chatRoomId)
@@ -150,9 +436,10 @@ public class WebSocketService {
             oppositeVotes = chatRoom.getVote().getOpposite();
         }
 
-        String mvp = chatRoom.getVote().calculateMVP();
+        Vote vote = chatRoom.getVote();
+        String mvp = vote.calculateMVP();
 
-        ChatRoomVoteResultResponseDto result = new ChatRoomVoteResultResponseDto(supportVotes, oppositeVotes, mvp);
+        ChatRoomVoteResultResponseDto result = new ChatRoomVoteResultResponseDto(supportVotes, oppositeVotes, mvp, vote.getLeaders(), vote.rankMVP());
 
         ChatRoomProgressResponseDto<ChatRoomVoteResultResponseDto> finalMessage = new ChatRoomProgressResponseDto<>(
                 "result",
@@ -162,10 +449,9 @@ public class WebSocketService {
         );
 
         if (isVoteEnd) {
-            ChatRoom endedChatRoom = chatRoom.toBuilder()
-                    .chatStatus("ENDED")
-                    .build();
-            chatRoomRepository.save(endedChatRoom);
+            mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(chatRoomId)),
+                    new Update().set("chatStatus", "ENDED"), ChatRoom.class);
+            chatRoomStateCache.evict(chatRoomId);
             /* 추후 db 삭제 및 멤버삭제 */
             messagingTemplate.convertAndSend("/topic/progress." + chatRoomId, finalMessage);
         }
@@ -180,42 +466,62 @@ public class WebSocketService {
     }
 
 
+    /*
+     * 참가자 한 명의 상태만 변경 (채팅방 document 전체를 다시 저장하지 않음)
+     * 변경 전 상태를 조건으로 걸고 readyCount 를 함께 반영, 그 사이 상태가 바뀌었으면 다시 읽어 재시도
+     * 변경된 채팅방 반환 (STATUS_CHANGED 이벤트 전송), 참가자가 없으면 null
+     */
+    public ChatRoom updateParticipantStatus(String id, Participant participant, String status, LocalDateTime disconnectedUpdatedAt) {
+        String memberId = participant.getMemberId();
+        Participant current = participant;
+        for (int attempt = 0; attempt < 3 && current != null; attempt++) {
+            Query query = Query.query(Criteria.where("_id").is(id)
+                    .and("participants").elemMatch(Criteria.where("memberId").is(memberId).and("status").is(current.getStatus())));
+            Update update = new Update()
+                    .set("participants.$[p].status", status)
+                    .set("participants.$[p].disconnectedUpdatedAt", disconnectedUpdatedAt)
+                    .inc("participantsVersion", 1)
+                    .filterArray(Criteria.where("p.memberId").is(memberId));
+            int readyDelta = ("READY".equals(status) ? 1 : 0) - ("READY".equals(current.getStatus()) ? 1 : 0);
+            if (readyDelta != 0) {
+                update.inc("readyCount", readyDelta);
+            }
+
+            ChatRoom updatedChatRoom = mongoTemplate.findAndModify(query, update, FindAndModifyOptions.options().returnNew(true), ChatRoom.class);
+            if (updatedChatRoom != null) {
+                chatRoomStateCache.evict(id);
+                sendParticipantEvent(updatedChatRoom, "STATUS_CHANGED", current.toBuilder()
+                        .status(status)
+                        .disconnectedUpdatedAt(disconnectedUpdatedAt)
+                        .build());
+                return updatedChatRoom;
+            }
+
+            // 다른 요청이 먼저 상태를 바꾼 경우 최신 상태로 다시 시도
+            ChatRoom latest = mongoTemplate.findById(id, ChatRoom.class);
+            current = latest == null ? null : latest.getParticipants().stream()
+                    .filter(p -> p.getMemberId().equals(memberId))
+                    .findFirst()
+                    .orElse(null);
+        }
+        return null;
+    }
+
     public void changeDisconnectParticipantStatus(ChatRoom chatRoom, String userNickName) {
 
+        if (chatRoom == null) {
+            throw new IllegalArgumentException("채팅방을 찾을 수 없습니다.");
+        }
+        // 연결이 끊긴 직후 조회한 채팅방에서 확인 (다른 노드에서 방금 참가한 참가자가 캐시에 없을 수 있음)
         Participant participant = chatRoom.getParticipants().stream()
                 .filter(p -> p.getNickName().equals(userNickName))
                 .findFirst()
                 .orElseThrow(() -> new IllegalArgumentException("참가자를 찾을 수 없습니다."));
 
-
-        Participant updatedParticipant = participant.toBuilder()
-                .status("DISCONNECTED")
-                .disconnectedUpdatedAt(DateTimeUtils.nowFromZone())
-                .build();
-
-
-        chatRoom.getParticipants().removeIf(p -> p.getNickName().equals(userNickName));
-        chatRoom.getParticipants().add(updatedParticipant);
-
-
-        for (SubChatRoom subChatRoom : chatRoom.getSubChatRooms()) {
-            subChatRoom.getParticipants().stream()
-                    .filter(p -> p.getNickName().equals(userNickName))
-                    .findFirst()
-                    .ifPresent(subParticipant -> {
-                        Participant updatedSubParticipant = subParticipant.toBuilder()
-                                .status("DISCONNECTED")
-                                .disconnectedUpdatedAt(DateTimeUtils.nowFromZone())
-                                .build();
-
-                        subChatRoom.getParticipants().removeIf(p -> p.getNickName().equals(userNickName));
-                        subChatRoom.getParticipants().add(updatedSubParticipant);
-                    });
+        if (updateParticipantStatus(chatRoom.getId(), participant, "DISCONNECTED", DateTimeUtils.nowFromZone()) == null) {
+            throw new IllegalArgumentException("참가자를 찾을 수 없습니다.");
         }
 
-        // 전체 ChatRoom 객체 저장
-        chatRoomRepository.save(chatRoom);
-
         participantStatusSchedulerService.scheduleStatusCheck(chatRoom, userNickName);
 
     }
@@ -224,8 +530,9 @@ public class WebSocketService {
     public void changeReconnectParticipantStatus(ChatRoom chatRoom, String nickName) {
 
         String status;
+        Participant participant;
         if (chatRoom.getChatStatus().equals("STARTED")){
-            Participant participant = chatRoom.getParticipants().stream().filter(participant1 -> participant1.getNickName().equals(nickName)).findFirst().orElseThrow(() -> new IllegalArgumentException("참가자를 찾을 수 없습니다."));
+            participant = chatRoom.getParticipants().stream().filter(participant1 -> participant1.getNickName().equals(nickName)).findFirst().orElseThrow(() -> new IllegalArgumentException("참가자를 찾을 수 없습니다."));
 
             if (participant.getMemberId().equals(chatRoom.getOwnerId())) {
                 status = "OWNER";
@@ -233,80 +540,33 @@ public class WebSocketService {
                 status = "READY";
             }
 
-            Participant updatedParticipant = participant.toBuilder()
-                    .status(status)
-                    .disconnectedUpdatedAt(null)
-                    .build();
-
-
-            chatRoom.getParticipants().removeIf(p -> p.getNickName().equals(nickName));
-            chatRoom.getParticipants().add(updatedParticipant);
-
-            for (SubChatRoom subChatRoom : chatRoom.getSubChatRooms()) {
-                subChatRoom.getParticipants().stream()
-                        .filter(p -> p.getNickName().equals(nickName))
-                        .findFirst()
-                        .ifPresent(subParticipant -> {
-                            Participant updatedSubParticipant = subParticipant.toBuilder()
-                                    .status(status)
-                                    .disconnectedUpdatedAt(null)
-                                    .build();
-
-                            subChatRoom.getParticipants().removeIf(p -> p.getNickName().equals(nickName));
-                            subChatRoom.getParticipants().add(updatedSubParticipant);
-                        });
-            }
-
-
         } else if (chatRoom.getChatStatus().equals("CREATED")) {
 
-            Participant participant = chatRoom.getParticipants().stream().filter(participant1 -> participant1.getNickName().equals(nickName)).findFirst().orElseThrow(() -> new IllegalArgumentException("참가자를 찾을 수 없습니다."));
+            participant = chatRoom.getParticipants().stream().filter(participant1 -> participant1.getNickName().equals(nickName)).findFirst().orElseThrow(() -> new IllegalArgumentException("참가자를 찾을 수 없습니다."));
             if (participant.getMemberId().equals(chatRoom.getOwnerId())) {
                 status = "OWNER";
             }else {
                 status = "PENDING";
             }
 
-            Participant updatedParticipant = participant.toBuilder()
-                    .status(status)
-                    .disconnectedUpdatedAt(null)
-                    .build();
-
-            chatRoom.getParticipants().removeIf(p -> p.getNickName().equals(nickName));
-            chatRoom.getParticipants().add(updatedParticipant);
-
-            for (SubChatRoom subChatRoom : chatRoom.getSubChatRooms()) {
-                subChatRoom.getParticipants().stream()
-                        .filter(p -> p.getNickName().equals(nickName))
-                        .findFirst()
-                        .ifPresent(subParticipant -> {
-                            Participant updatedSubParticipant = subParticipant.toBuilder()
-                                    .status(status)
-                                    .build();
-
-                            subChatRoom.getParticipants().removeIf(p -> p.getNickName().equals(nickName));
-                            subChatRoom.getParticipants().add(updatedSubParticipant);
-                        });
-            }
-
         } else {
             throw new IllegalArgumentException("이미 끝난 채팅방입니다.");
         }
-        chatRoomRepository.save(chatRoom);
+
+        if (updateParticipantStatus(chatRoom.getId(), participant, status, null) == null) {
+            throw new IllegalArgumentException("참가자를 찾을 수 없습니다.");
+        }
 
     }
 
+    /* 참여자 목록 전송 (짧은 시간 안의 변경은 합쳐서 최신 목록을 한 번만 전송) */
     public void sendParticiPantsList(ChatRoom chatRoom) {
-        List<ChatRoomParticipantsListResponseDto> responseDto = chatRoom.getParticipants().stream()
-                .map(participant -> new ChatRoomParticipantsListResponseDto(
-                        participant.getNickName(),
-                        participant.getRole(),
-                        participant.getStatus()
-                ))
-                .collect(Collectors.toList());
-
-        messagingTemplate.convertAndSend("/topic/"+chatRoom.getId() + ".participants.list", CommonResponseDto.success(responseDto));
+        participantsBroadcastCoalescer.request(chatRoom.getId());
+    }
 
+    /* 참여자 변경 이벤트 전송 (type : JOINED, LEFT, ROLE_CHANGED, STATUS_CHANGED), chatRoom 은 변경이 반영된 채팅방 */
+    public void sendParticipantEvent(ChatRoom chatRoom, String type, Participant participant) {
+        participantsBroadcastCoalescer.publish(chatRoom, type, participant);
     }
 
 
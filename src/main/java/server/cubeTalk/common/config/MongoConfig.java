@@ -4,6 +4,9 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.auditing.DateTimeProvider;
 import org.springframework.data.mongodb.config.EnableMongoAuditing;
+import org.springframework.data.mongodb.core.mapping.event.AfterConvertCallback;
+import org.springframework.data.mongodb.core.mapping.event.BeforeConvertCallback;
+import server.cubeTalk.chat.model.entity.ChatRoom;
 
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
@@ -19,4 +22,29 @@ public class MongoConfig {
     public DateTimeProvider dateTimeProvider() {
         return () -> Optional.of(LocalDateTime.now(ZoneId.of("Asia/Seoul")));
     }
+
+    /*
+     * 채팅방 문서 전체 저장은 새 채팅방 생성에만 허용
+     * 참가자 목록, 역할별 인원, 참가자 목록 버전은 조건부 업데이트로만 변경 (이전에 읽은 문서를 다시 저장하면 그 사이의 참가, 상태 변경을 덮어씀)
+     */
+    @Bean
+    public BeforeConvertCallback<ChatRoom> chatRoomParticipantCountsCallback() {
+        return (chatRoom, collection) -> {
+            if (chatRoom.getId() != null) {
+                throw new IllegalStateException("채팅방 " + chatRoom.getId() + " 의 전체 문서 저장은 허용되지 않습니다. 변경할 필드만 업데이트해야 합니다.");
+            }
+            chatRoom.refreshParticipantCounts();
+            chatRoom.deriveSubChatRoomParticipants();
+            return chatRoom;
+        };
+    }
+
+    // 서브 채팅방 참가자는 저장하지 않으므로 조회 시 메인 참가자 목록에서 구성
+    @Bean
+    public AfterConvertCallback<ChatRoom> chatRoomSubChatRoomParticipantsCallback() {
+        return (chatRoom, document, collection) -> {
+            chatRoom.deriveSubChatRoomParticipants();
+            return chatRoom;
+        };
+    }
 }
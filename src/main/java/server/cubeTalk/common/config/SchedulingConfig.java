@@ -1,9 +1,22 @@
 package server.cubeTalk.common.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import server.cubeTalk.common.util.HashedWheelTimer;
+
+import java.util.concurrent.TimeUnit;
 
 @Configuration
 @EnableScheduling
 public class SchedulingConfig {
+
+    /* 채팅방 진행 타이머 (모든 채팅방이 tick 스레드 하나를 공유) */
+    @Bean(destroyMethod = "stop")
+    public HashedWheelTimer roomTimer(@Value("${chat.timer.tick-ms:100}") long tickMillis,
+                                      @Value("${chat.timer.ticks-per-wheel:512}") int ticksPerWheel,
+                                      @Value("${chat.timer.task-threads:4}") int taskThreads) {
+        return new HashedWheelTimer("room-timer", tickMillis, TimeUnit.MILLISECONDS, ticksPerWheel, taskThreads);
+    }
 }
@@ -1,5 +1,6 @@
 package server.cubeTalk.common.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -7,6 +8,7 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.authorization.AuthorizationDecision;
 
 
 import java.util.Arrays;
@@ -16,10 +18,17 @@ import java.util.Collections;
 @EnableWebSecurity
 public class SecurityConfig {
 
+    @Value("${management.server.port:-1}")
+    private int managementPort;
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
                 .authorizeHttpRequests(authorize -> authorize
+                        .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+                        // health 외의 관리용 endpoint (metrics 등) 는 관리 포트로 들어온 요청만 허용
+                        .requestMatchers("/actuator/**").access((authentication, context) ->
+                                new AuthorizationDecision(context.getRequest().getLocalPort() == managementPort))
                         .anyRequest().permitAll())
                 .csrf(AbstractHttpConfigurer::disable)  // CSRF 공격 방어 기능 비활성화
                 .cors(cors -> cors.configurationSource(request -> {
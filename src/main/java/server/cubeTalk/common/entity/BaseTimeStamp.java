@@ -19,5 +19,11 @@ public abstract class BaseTimeStamp {
     @LastModifiedDate
     private LocalDateTime updatedAt;
 
+    /* 저장 전에 생성 시각이 필요한 경우 직접 지정 (id 를 미리 발급하면 auditing 이 createdAt 을 채우지 않음) */
+    protected void assignCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+        this.updatedAt = createdAt;
+    }
+
 }
 
@@ -7,26 +7,26 @@ import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
-import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import server.cubeTalk.chat.model.dto.ChatRoomParticipantsListResponseDto;
+import server.cubeTalk.chat.handler.ChatRoomExistenceCache;
+import server.cubeTalk.chat.handler.ChatRoomStateCache;
+import server.cubeTalk.chat.handler.ParticipantsBroadcastCoalescer;
+import server.cubeTalk.chat.handler.RecentMessageBuffer;
 import server.cubeTalk.chat.model.dto.ProgressInterruptionResponse;
 import server.cubeTalk.chat.model.entity.ChatRoom;
 import server.cubeTalk.chat.model.entity.Participant;
-import server.cubeTalk.chat.model.entity.SubChatRoom;
 import server.cubeTalk.chat.repository.ChatRoomRepository;
 import server.cubeTalk.chat.service.ChatRoomService;
 import server.cubeTalk.chat.service.MessageService;
 import server.cubeTalk.chat.service.WebSocketService;
-import server.cubeTalk.common.dto.CommonResponseDto;
 import server.cubeTalk.common.util.DateTimeUtils;
 import server.cubeTalk.member.model.entity.Member;
 import server.cubeTalk.member.repository.MemberRepository;
 
 
 import java.util.List;
-import java.util.stream.Collectors;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -37,17 +37,25 @@ import java.util.concurrent.TimeUnit;
 @Slf4j
 public class ParticipantStatusSchedulerService {
     private final ChatRoomRepository chatRoomRepository;
-    private final SimpMessageSendingOperations messageSendingOperations;
+    private final ParticipantsBroadcastCoalescer participantsBroadcastCoalescer;
     private final MemberRepository memberRepository;
     private final MessageService messageService;
     private final MongoTemplate mongoTemplate;
+    private final ChatRoomStateCache chatRoomStateCache;
+    private final ChatRoomExistenceCache chatRoomExistenceCache;
+    private final RecentMessageBuffer recentMessageBuffer;
 
 
     private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
 
 
     public void deleteSomething(String id) {
+        // 삭제 후에는 채널 구성을 조회할 수 없으므로 먼저 읽어둠
+        ChatRoomExistenceCache.RoomLayout layout = chatRoomExistenceCache.findLayout(id);
         mongoTemplate.remove(Query.query(Criteria.where("id").is(id)), ChatRoom.class);
+        chatRoomStateCache.evict(id);
+        chatRoomExistenceCache.markDeleted(id);
+        recentMessageBuffer.removeRoom(layout);
     }
 
     public void deleteMemberSomething(String memberId) {
@@ -82,7 +90,7 @@ public class ParticipantStatusSchedulerService {
     }
     /* 자유 토론일 때 참가자 인원 확인 */
     public void checkFreeParticipantsCount(ChatRoom chatRoom) {
-        long participantsCount = chatRoom.getParticipants().stream().filter(p -> p.getRole().equals("자유")).count();
+        long participantsCount = chatRoom.getFreeCount();
         if (participantsCount == 0) {
             messageService.sendChatRoomMessage("EVENT","참가자가 없어 5초 뒤 채팅이 종료됩니다.","/topic/chat." + chatRoom.getChannelId());
             // 5초 후에 채팅방 삭제
@@ -96,8 +104,8 @@ public class ParticipantStatusSchedulerService {
 
     /* 찬반 토론일 때 참가자 인원 확인 */
     public void checkDebateParticipantsCount(ChatRoom chatRoom) {
-        long supportCount = chatRoom.getParticipants().stream().filter(p -> p.getRole().equals("찬성")).count();
-        long oppositeCount = chatRoom.getParticipants().stream().filter(p -> p.getRole().equals("반대")).count();
+        long supportCount = chatRoom.getSupportCount();
+        long oppositeCount = chatRoom.getOppositeCount();
 
         if (supportCount == 0 || oppositeCount == 0) {
 
@@ -179,7 +187,7 @@ public class ParticipantStatusSchedulerService {
                 // 방장 후보군이 없는 경우
                 // 메인,서브채팅방에서 기존 방장 제거
                 removeOwnerMemberFromChatRoom(chatRoom,participant);
-                chatRoomRepository.save(chatRoom);
+                chatRoomStateCache.evict(chatRoom.getId());
                 log.info("방장 제거");
 
                 messageService.sendChatRoomMessage("EVENT","방장후보군이 없어 5초 뒤 채팅이 종료됩니다.","/topic/chat." + chatRoom.getChannelId());
@@ -192,40 +200,24 @@ public class ParticipantStatusSchedulerService {
                 // 메인,서브 채팅방에서 기존 방장 제거
                 removeOwnerMemberFromChatRoom(chatRoom,participant);
 
-                // 새로운 방장 설정
-                Participant newOwner = availableParticipants.get(0).toBuilder()
-                        .status("OWNER")
-                        .build();
-
-                // 기존 임시 방장 정보 제거
-                chatRoom.getParticipants().removeIf(p -> p.getMemberId().equals(newOwner.getMemberId()));
-                for (SubChatRoom subChatRoom : chatRoom.getSubChatRooms()) {
-                    if (subChatRoom.getType().equals(newOwner.getRole())) {
-                        subChatRoom.getParticipants().removeIf(p -> p.getMemberId().equals(newOwner.getMemberId()));
-                    }
-                }
-
-                ChatRoom updatedChatRoom = chatRoom.toBuilder()
-                        .ownerId(newOwner.getMemberId())
-                        .build();
-
-                // 메인 채팅방에 새 방장 추가
-                updatedChatRoom.getParticipants().add(newOwner);
-
-                if (chatRoom.getChatMode().equals("찬반")) {
-                    // 서브 채팅방에 새로운 방장 추가
-                    for (SubChatRoom subChatRoom : updatedChatRoom.getSubChatRooms()) {
-                        if (subChatRoom.getType().equals(newOwner.getRole())) {
-                            subChatRoom.getParticipants().add(newOwner);
-                        }
-                    }
-                }
+                // 새로운 방장 설정 (해당 참가자 상태만 OWNER 로 변경, 준비 상태였으면 준비 인원에서 제외)
+                Participant newOwner = availableParticipants.get(0);
+                Update ownerUpdate = new Update()
+                        .set("ownerId", newOwner.getMemberId())
+                        .set("participants.$[p].status", "OWNER")
+                        .inc("readyCount", "READY".equals(newOwner.getStatus()) ? -1 : 0)
+                        .inc("participantsVersion", 1)
+                        .filterArray(Criteria.where("p.memberId").is(newOwner.getMemberId()));
+                mongoTemplate.updateFirst(
+                        Query.query(Criteria.where("_id").is(chatRoom.getId())
+                                .and("participants").elemMatch(Criteria.where("memberId").is(newOwner.getMemberId()).and("status").is(newOwner.getStatus()))),
+                        ownerUpdate, ChatRoom.class);
 
                 log.info("Disconnected된 기존 방장의 닉네임: {}", participant.getNickName());
 
                 String message =  participant.getNickName() + "님이 퇴장하셨습니다.";
                 messageService.sendChatRoomMessage("EVENT",message,"/topic/chat." + chatRoom.getChannelId());
-                chatRoomRepository.save(updatedChatRoom);
+                chatRoomStateCache.evict(chatRoom.getId());
 
             }
         }
@@ -233,8 +225,7 @@ public class ParticipantStatusSchedulerService {
 
             // 메인,서브 채팅방에서 해당 참가자 제거
             removeMemberFromChatRoom(chatRoom,participant);
-
-            chatRoomRepository.save(chatRoom);
+            chatRoomStateCache.evict(chatRoom.getId());
 
             log.info("Disconnected된 참가자 닉네임: {}", participant.getNickName());
 
@@ -249,44 +240,22 @@ public class ParticipantStatusSchedulerService {
         // member 삭제
         deleteMember(originMemberId);
 
-        // 퇴출시 참가자 목록 업데이트 후 전송
-        List<ChatRoomParticipantsListResponseDto> responseDto = chatRoom.getParticipants().stream()
-                .map(p -> new ChatRoomParticipantsListResponseDto(
-                        p.getNickName(),
-                        p.getRole(),
-                        p.getStatus()
-                ))
-                .collect(Collectors.toList());
-
-        messageSendingOperations.convertAndSend("/topic/" + chatRoom.getId() + ".participants.list", CommonResponseDto.success(responseDto));
+        // 퇴출시 참가자 목록 업데이트 후 전송 (DELTA 모드에서도 방장 변경이 함께 반영되도록 전체 목록)
+        participantsBroadcastCoalescer.request(chatRoom.getId());
         log.info("퇴출후 참가자 목록 업데이트 전송");
     }
 
-    /* 방장 제거 메서드 */
+    /* 방장 제거 메서드 (서브 채팅방 참가자는 메인 목록에서 구성되므로 메인 목록에서만 제거) */
     public void removeOwnerMemberFromChatRoom(ChatRoom chatRoom,Participant participant) {
-        chatRoom.getParticipants().removeIf(p -> p.getMemberId().equals(chatRoom.getOwnerId()));
-
-        if (chatRoom.getChatMode().equals("찬반")) {
-            for (SubChatRoom subChatRoom : chatRoom.getSubChatRooms()) {
-                if (subChatRoom.getType().equals(participant.getRole())) {
-                    subChatRoom.getParticipants().removeIf(p -> p.getMemberId().equals(chatRoom.getOwnerId()));
-                }
-            }
-        }
+        removeMemberFromChatRoom(chatRoom, participant);
     }
 
-    /* 참가자 제거 메서드 */
+    /* 참가자 제거 메서드 (참가중인 경우에만 제거하고 인원 감소, 전체 문서를 다시 저장하지 않음) */
     public void removeMemberFromChatRoom(ChatRoom chatRoom, Participant participant) {
+        mongoTemplate.updateFirst(
+                Query.query(Criteria.where("_id").is(chatRoom.getId()).and("participants.memberId").is(participant.getMemberId())),
+                ChatRoom.participantRemoval(participant), ChatRoom.class);
         chatRoom.getParticipants().removeIf(p -> p.getMemberId().equals(participant.getMemberId()));
-
-        if (chatRoom.getChatMode().equals("찬반")) {
-            // 서브 채팅방에서 해당 참가자 제거
-            for (SubChatRoom subChatRoom : chatRoom.getSubChatRooms()) {
-                if (subChatRoom.getType().equals(participant.getRole())) {
-                    subChatRoom.getParticipants().removeIf(p -> p.getMemberId().equals(participant.getMemberId()));
-                }
-            }
-        }
     }
 
 
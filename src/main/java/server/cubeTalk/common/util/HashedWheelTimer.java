@@ -0,0 +1,188 @@
+package server.cubeTalk.common.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+ * 해시드 타이밍 휠 타이머
+ * tick 스레드 하나가 tickDuration 마다 휠의 슬롯 하나를 확인하고 만료된 작업만 실행 스레드로 넘김
+ * 등록/취소는 O(1) 이라 채팅방이 많아도 채팅방마다 스케줄 작업을 두지 않아도 됨
+ */
+@Slf4j
+public class HashedWheelTimer {
+
+    private final long tickDurationNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final Queue<Timeout> pendingTimeouts = new ConcurrentLinkedQueue<>();
+    private final ExecutorService taskExecutor;
+    private final Thread workerThread;
+    private final AtomicBoolean started = new AtomicBoolean(false);
+    private final long startTime = System.nanoTime();
+    private volatile boolean stopped;
+
+    public HashedWheelTimer(String name, long tickDuration, TimeUnit unit, int ticksPerWheel, int taskThreads) {
+        if (tickDuration <= 0) throw new IllegalArgumentException("tickDuration 은 0보다 커야 합니다.");
+        if (ticksPerWheel <= 0) throw new IllegalArgumentException("ticksPerWheel 은 0보다 커야 합니다.");
+
+        // 슬롯 인덱스 계산을 비트 연산으로 하기 위해 2의 거듭제곱으로 맞춤
+        int normalized = 1;
+        while (normalized < ticksPerWheel) normalized <<= 1;
+
+        this.tickDurationNanos = unit.toNanos(tickDuration);
+        this.wheel = new Bucket[normalized];
+        for (int i = 0; i < normalized; i++) wheel[i] = new Bucket();
+        this.mask = normalized - 1;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.taskExecutor = Executors.newFixedThreadPool(taskThreads, runnable -> {
+            Thread thread = new Thread(runnable, name + "-task-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.workerThread = new Thread(this::run, name + "-tick");
+        this.workerThread.setDaemon(true);
+    }
+
+    /* delay 뒤에 task 실행 예약 */
+    public Timeout newTimeout(Runnable task, long delay, TimeUnit unit) {
+        if (stopped) throw new IllegalStateException("이미 종료된 타이머입니다.");
+        start();
+
+        long deadline = System.nanoTime() + unit.toNanos(Math.max(delay, 0)) - startTime;
+        Timeout timeout = new Timeout(task, deadline);
+        pendingTimeouts.add(timeout);
+        return timeout;
+    }
+
+    public void stop() {
+        stopped = true;
+        workerThread.interrupt();
+        taskExecutor.shutdown();
+    }
+
+    private void start() {
+        if (started.compareAndSet(false, true)) {
+            workerThread.start();
+        }
+    }
+
+    private void run() {
+        long tick = 0;
+        while (!stopped) {
+            long currentTime = waitForNextTick(tick);
+            if (currentTime < 0) break;
+
+            transferPendingTimeouts(tick);
+            wheel[(int) (tick & mask)].expire(currentTime);
+            tick++;
+        }
+    }
+
+    private long waitForNextTick(long tick) {
+        long deadline = tickDurationNanos * (tick + 1);
+        while (true) {
+            long currentTime = System.nanoTime() - startTime;
+            long sleepMillis = (deadline - currentTime + 999_999) / 1_000_000;
+            if (sleepMillis <= 0) return currentTime;
+            try {
+                Thread.sleep(sleepMillis);
+            } catch (InterruptedException e) {
+                if (stopped) return -1;
+            }
+        }
+    }
+
+    /* 새로 등록된 작업을 만료 시점의 슬롯에 배치 */
+    private void transferPendingTimeouts(long tick) {
+        Timeout timeout;
+        while ((timeout = pendingTimeouts.poll()) != null) {
+            if (timeout.isCancelled()) continue;
+
+            long calculated = timeout.deadline / tickDurationNanos;
+            timeout.remainingRounds = (calculated - tick) / wheel.length;
+            // 이미 지난 시점이면 현재 슬롯에서 바로 실행
+            long ticks = Math.max(calculated, tick);
+            wheel[(int) (ticks & mask)].add(timeout);
+        }
+    }
+
+    private void execute(Timeout timeout) {
+        try {
+            taskExecutor.execute(() -> {
+                try {
+                    timeout.task.run();
+                } catch (Exception e) {
+                    log.error("타이머 작업 실행 중 오류 발생 : {}", e.getMessage(), e);
+                }
+            });
+        } catch (Exception e) {
+            log.error("타이머 작업 실행 실패 : {}", e.getMessage());
+        }
+    }
+
+    /* 휠의 슬롯 하나 (tick 스레드에서만 접근) */
+    private class Bucket {
+        private final LinkedList<Timeout> timeouts = new LinkedList<>();
+
+        void add(Timeout timeout) {
+            timeouts.add(timeout);
+        }
+
+        void expire(long currentTime) {
+            Iterator<Timeout> iterator = timeouts.iterator();
+            while (iterator.hasNext()) {
+                Timeout timeout = iterator.next();
+                if (timeout.isCancelled()) {
+                    iterator.remove();
+                } else if (timeout.remainingRounds <= 0) {
+                    if (timeout.deadline <= currentTime) {
+                        iterator.remove();
+                        if (timeout.expire()) execute(timeout);
+                    }
+                } else {
+                    timeout.remainingRounds--;
+                }
+            }
+        }
+    }
+
+    /* 예약된 작업 핸들 (취소 가능) */
+    public static class Timeout {
+        private static final int INIT = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        private final Runnable task;
+        private final long deadline;
+        private final AtomicInteger state = new AtomicInteger(INIT);
+        private long remainingRounds;
+
+        private Timeout(Runnable task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /* 아직 실행되지 않았다면 취소 (슬롯에서는 tick 스레드가 지나갈 때 제거) */
+        public boolean cancel() {
+            return state.compareAndSet(INIT, CANCELLED);
+        }
+
+        public boolean isCancelled() {
+            return state.get() == CANCELLED;
+        }
+
+        private boolean expire() {
+            return state.compareAndSet(INIT, EXPIRED);
+        }
+    }
+}
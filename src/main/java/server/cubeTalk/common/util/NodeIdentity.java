@@ -0,0 +1,21 @@
+package server.cubeTalk.common.util;
+
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/* 이 서버 노드의 식별자 (타이머 리스 소유자, presence 문서 등 노드별로 구분이 필요한 곳에서 공유) */
+@Component
+@Getter
+public class NodeIdentity {
+
+    // 같은 호스트에서 재시작해도 이전 노드의 문서와 구분되도록 임의의 접미사 추가
+    private final String nodeId = resolveNodeId();
+
+    private static String resolveNodeId() {
+        String hostName = System.getenv("HOSTNAME");
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        return hostName == null || hostName.isBlank() ? suffix : hostName + "-" + suffix;
+    }
+}
@@ -22,4 +22,14 @@ public class RandomNicknameGenerator {
         return adjective + noun;
     }
 
+    /* 형용사 + 명사 조합 수 */
+    public static int combinations() {
+        return ADJECTIVES.length * NOUNS.length;
+    }
+
+    /* index 번째 조합 (0 ~ combinations() - 1) */
+    public static String nicknameAt(int index) {
+        return ADJECTIVES[index / NOUNS.length] + NOUNS[index % NOUNS.length];
+    }
+
 }
@@ -3,6 +3,7 @@ package server.cubeTalk.member.model.entity;
 
 import lombok.Builder;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 import server.cubeTalk.common.entity.BaseTimeStamp;
 
@@ -10,12 +11,16 @@ import server.cubeTalk.common.entity.BaseTimeStamp;
 
 @Builder
 @Document(collection = "member")
+// 채팅방 안에서 닉네임 중복 방지 (닉네임 예약), roomId 가 없는 방장 생성용 / 이전 문서는 제외
+@CompoundIndex(name = "roomId_nickName", def = "{'roomId': 1, 'nickName': 1}", unique = true,
+        partialFilter = "{'roomId': {'$exists': true}}")
 public class Member extends BaseTimeStamp {
 
     @Id
     private String id;
     private String memberId;
     private String nickName;
+    private String roomId; // 닉네임을 예약한 채팅방
 
 
 }
@@ -0,0 +1,116 @@
+package server.cubeTalk.chat.handler;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import server.cubeTalk.chat.model.dto.ChatRoomSendMessageResponseDto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecentMessageBufferTest {
+
+    private static final String CHANNEL = "channel";
+
+    private RecentMessageBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new RecentMessageBuffer();
+        ReflectionTestUtils.setField(buffer, "capacity", 3);
+        ReflectionTestUtils.setField(buffer, "idleSeconds", 1800L);
+    }
+
+    @Test
+    @DisplayName("커서 이후의 메시지를 순서대로 반환한다")
+    void returnsMessagesAfterCursorInOrder() {
+        addAll("m1", "m2", "m3");
+
+        assertThat(messageIds(buffer.findSince(CHANNEL, "m1"))).containsExactly("m2", "m3");
+    }
+
+    @Test
+    @DisplayName("커서가 가장 최근 메시지면 빈 목록을 반환한다")
+    void returnsEmptyWhenCursorIsLatest() {
+        addAll("m1", "m2");
+
+        assertThat(buffer.findSince(CHANNEL, "m2")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("용량을 넘으면 가장 오래된 메시지부터 덮어쓴다")
+    void overwritesOldestOnWraparound() {
+        addAll("m1", "m2", "m3", "m4", "m5");
+
+        assertThat(messageIds(buffer.findSince(CHANNEL, "m3"))).containsExactly("m4", "m5");
+        assertThat(buffer.findSince(CHANNEL, "m2")).isNull();
+    }
+
+    @Test
+    @DisplayName("한 바퀴 돈 뒤에도 남아 있는 가장 오래된 메시지 이후 전체를 반환한다")
+    void returnsAllAfterOldestAfterWraparound() {
+        addAll("m1", "m2", "m3", "m4");
+
+        assertThat(messageIds(buffer.findSince(CHANNEL, "m2"))).containsExactly("m3", "m4");
+    }
+
+    @Test
+    @DisplayName("버퍼에 없는 커서나 채널이면 null 을 반환한다")
+    void returnsNullForUnknownCursorOrChannel() {
+        addAll("m1");
+
+        assertThat(buffer.findSince(CHANNEL, "unknown")).isNull();
+        assertThat(buffer.findSince("other", "m1")).isNull();
+    }
+
+    @Test
+    @DisplayName("용량이 0이면 보관하지 않는다")
+    void disabledWhenCapacityIsZero() {
+        ReflectionTestUtils.setField(buffer, "capacity", 0);
+        addAll("m1", "m2");
+
+        assertThat(buffer.findSince(CHANNEL, "m1")).isNull();
+    }
+
+    @Test
+    @DisplayName("채팅방 제거 시 메인, 서브 채널 버퍼를 모두 제거한다")
+    void removeRoomDropsMainAndSubChannels() {
+        addAll("m1", "m2");
+        buffer.add("sub", message("s1"));
+        buffer.add("sub", message("s2"));
+
+        buffer.removeRoom(new ChatRoomExistenceCache.RoomLayout(CHANNEL, Set.of("sub")));
+
+        assertThat(buffer.findSince(CHANNEL, "m1")).isNull();
+        assertThat(buffer.findSince("sub", "s1")).isNull();
+    }
+
+    @Test
+    @DisplayName("오랫동안 메시지가 없는 채널 버퍼를 정리한다")
+    void evictsIdleChannels() {
+        addAll("m1", "m2");
+        ReflectionTestUtils.setField(buffer, "idleSeconds", -1L);
+
+        buffer.evictIdle();
+
+        assertThat(buffer.findSince(CHANNEL, "m1")).isNull();
+    }
+
+    private void addAll(String... messageIds) {
+        for (String messageId : messageIds) {
+            buffer.add(CHANNEL, message(messageId));
+        }
+    }
+
+    private ChatRoomSendMessageResponseDto message(String messageId) {
+        return new ChatRoomSendMessageResponseDto(messageId, "MAIN", "sender", "message", null, LocalDateTime.now());
+    }
+
+    private List<String> messageIds(List<ChatRoomSendMessageResponseDto> messages) {
+        return messages.stream().map(ChatRoomSendMessageResponseDto::getMessageId).toList();
+    }
+}
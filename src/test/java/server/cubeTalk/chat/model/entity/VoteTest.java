@@ -0,0 +1,109 @@
+package server.cubeTalk.chat.model.entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VoteTest {
+
+    @Test
+    @DisplayName("득표 수가 많은 순서로 순위를 매긴다")
+    void ranksByCountDescending() {
+        Vote vote = Vote.builder()
+                .mvpTally(List.of(new MvpTally("가", 1), new MvpTally("나", 3), new MvpTally("다", 2)))
+                .build();
+
+        assertThat(vote.rankMVP()).containsExactly(
+                new Vote.MvpRank(1, "나", 3),
+                new Vote.MvpRank(2, "다", 2),
+                new Vote.MvpRank(3, "가", 1));
+    }
+
+    @Test
+    @DisplayName("동률은 같은 순위이고 다음 순위는 동률 인원만큼 건너뛴다")
+    void tiesShareRankAndSkipNext() {
+        Vote vote = Vote.builder()
+                .mvpTally(List.of(new MvpTally("다", 2), new MvpTally("가", 2), new MvpTally("나", 1)))
+                .build();
+
+        // 동률은 닉네임 순서로 정렬
+        assertThat(vote.rankMVP()).containsExactly(
+                new Vote.MvpRank(1, "가", 2),
+                new Vote.MvpRank(1, "다", 2),
+                new Vote.MvpRank(3, "나", 1));
+    }
+
+    @Test
+    @DisplayName("반영된 투표가 없는 득표 항목은 순위에서 제외한다")
+    void skipsTalliesWithoutVotes() {
+        Vote vote = Vote.builder()
+                .mvpTally(List.of(new MvpTally("가", 0), new MvpTally("나", 1)))
+                .build();
+
+        assertThat(vote.rankMVP()).containsExactly(new Vote.MvpRank(1, "나", 1));
+    }
+
+    @Test
+    @DisplayName("이전 방식의 닉네임 목록과 득표 수를 합산한다")
+    void mergesLegacyMvpListWithTallies() {
+        Vote vote = Vote.builder()
+                .mvp(List.of("가", "나", "가"))
+                .mvpTally(List.of(new MvpTally("나", 2)))
+                .build();
+
+        assertThat(vote.rankMVP()).containsExactly(
+                new Vote.MvpRank(1, "나", 3),
+                new Vote.MvpRank(2, "가", 2));
+    }
+
+    @Test
+    @DisplayName("저장된 최다 득표자가 없으면 1위 전원을 최다 득표자로 계산한다")
+    void leadersFallBackToRanking() {
+        Vote vote = Vote.builder()
+                .mvpTally(List.of(new MvpTally("나", 2), new MvpTally("가", 2), new MvpTally("다", 1)))
+                .build();
+
+        assertThat(vote.getLeaders()).containsExactly("가", "나");
+        assertThat(vote.calculateMVP()).isEqualTo("가");
+    }
+
+    @Test
+    @DisplayName("역전으로 교체된 최다 득표자가 저장되어 있으면 그 값을 사용한다")
+    void storedLeadersTakePrecedence() {
+        // 이전 방식 목록으로는 "가" 가 1위지만 이후 "나" 가 역전하여 교체된 상태
+        Vote vote = Vote.builder()
+                .mvp(List.of("가", "가"))
+                .mvpTally(List.of(new MvpTally("나", 3)))
+                .mvpLeaders(List.of("나"))
+                .mvpLeaderCount(3)
+                .build();
+
+        assertThat(vote.getLeaders()).containsExactly("나");
+        assertThat(vote.calculateMVP()).isEqualTo("나");
+    }
+
+    @Test
+    @DisplayName("동률로 추가된 최다 득표자는 먼저 도달한 닉네임이 MVP 가 된다")
+    void firstLeaderWinsTie() {
+        Vote vote = Vote.builder()
+                .mvpTally(List.of(new MvpTally("가", 2), new MvpTally("나", 2)))
+                .mvpLeaders(List.of("나", "가"))
+                .mvpLeaderCount(2)
+                .build();
+
+        assertThat(vote.calculateMVP()).isEqualTo("나");
+    }
+
+    @Test
+    @DisplayName("투표가 없으면 MVP 는 없다")
+    void noVotesNoMvp() {
+        Vote vote = Vote.builder().build();
+
+        assertThat(vote.rankMVP()).isEmpty();
+        assertThat(vote.getLeaders()).isEmpty();
+        assertThat(vote.calculateMVP()).isNull();
+    }
+}
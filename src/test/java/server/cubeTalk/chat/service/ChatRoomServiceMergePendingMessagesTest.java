@@ -0,0 +1,119 @@
+package server.cubeTalk.chat.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import server.cubeTalk.chat.model.entity.Message;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChatRoomServiceMergePendingMessagesTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Test
+    @DisplayName("저장 대기 메시지가 없으면 db 조회 결과를 그대로 반환한다")
+    void returnsStoredWhenNoPending() {
+        List<Message> stored = List.of(message(3, 3), message(2, 2));
+
+        List<Message> merged = ChatRoomService.mergePendingMessages(stored, List.of(), null, false, 10);
+
+        assertThat(ids(merged)).containsExactly(id(3), id(2));
+        // 호출하는 쪽에서 hasMore 확인 후 마지막 항목을 지울 수 있어야 함
+        merged.remove(merged.size() - 1);
+    }
+
+    @Test
+    @DisplayName("커서 없이 조회하면 저장 대기 메시지를 포함해 최신 메시지부터 반환한다")
+    void mergesNewestFirstWithoutCursor() {
+        List<Message> stored = List.of(message(2, 2), message(1, 1));
+        List<Message> pending = List.of(message(4, 4), message(3, 3));
+
+        List<Message> merged = ChatRoomService.mergePendingMessages(stored, pending, null, false, 3);
+
+        assertThat(ids(merged)).containsExactly(id(4), id(3), id(2));
+    }
+
+    @Test
+    @DisplayName("before 조회는 커서 이전의 저장 대기 메시지만 포함한다")
+    void beforeIncludesOnlyPendingOlderThanCursor() {
+        Message cursor = message(3, 3);
+        List<Message> stored = List.of(message(1, 1));
+        List<Message> pending = List.of(message(2, 2), cursor, message(4, 4));
+
+        List<Message> merged = ChatRoomService.mergePendingMessages(stored, pending, cursor, false, 10);
+
+        assertThat(ids(merged)).containsExactly(id(2), id(1));
+    }
+
+    @Test
+    @DisplayName("after 조회는 커서 이후의 저장 대기 메시지만 오래된 순서로 포함한다")
+    void afterIncludesOnlyPendingNewerThanCursor() {
+        Message cursor = message(2, 2);
+        List<Message> stored = List.of(message(3, 3));
+        List<Message> pending = List.of(message(1, 1), cursor, message(5, 5), message(4, 4));
+
+        List<Message> merged = ChatRoomService.mergePendingMessages(stored, pending, cursor, true, 10);
+
+        assertThat(ids(merged)).containsExactly(id(3), id(4), id(5));
+    }
+
+    @Test
+    @DisplayName("조회 사이에 저장된 저장 대기 메시지는 한 번만 포함한다")
+    void deduplicatesMessagesStoredDuringRead() {
+        List<Message> stored = List.of(message(2, 2), message(1, 1));
+        List<Message> pending = List.of(message(3, 3), message(2, 2));
+
+        List<Message> merged = ChatRoomService.mergePendingMessages(stored, pending, null, false, 10);
+
+        assertThat(ids(merged)).containsExactly(id(3), id(2), id(1));
+    }
+
+    @Test
+    @DisplayName("생성 시각이 같으면 id 로 순서를 정한다")
+    void breaksCreatedAtTiesById() {
+        Message cursor = message(2, 1);
+        List<Message> stored = List.of(message(1, 1));
+        List<Message> pending = List.of(message(3, 1), cursor);
+
+        List<Message> before = ChatRoomService.mergePendingMessages(stored, pending, cursor, false, 10);
+        List<Message> after = ChatRoomService.mergePendingMessages(List.of(), pending, cursor, true, 10);
+
+        assertThat(ids(before)).containsExactly(id(1));
+        assertThat(ids(after)).containsExactly(id(3));
+    }
+
+    @Test
+    @DisplayName("다음 페이지 확인용 1건을 포함해 size 개까지만 반환한다")
+    void limitsToSize() {
+        List<Message> stored = List.of(message(3, 3), message(2, 2), message(1, 1));
+        List<Message> pending = List.of(message(5, 5), message(4, 4));
+
+        List<Message> merged = ChatRoomService.mergePendingMessages(stored, pending, null, false, 3);
+
+        assertThat(ids(merged)).containsExactly(id(5), id(4), id(3));
+    }
+
+    private static Message message(int sequence, int secondsAfterBase) {
+        Message message = Message.builder()
+                .id(id(sequence))
+                .channelId("channel")
+                .type("MAIN")
+                .sender("sender")
+                .message("message " + sequence)
+                .build();
+        ReflectionTestUtils.setField(message, "createdAt", BASE.plusSeconds(secondsAfterBase));
+        return message;
+    }
+
+    private static String id(int sequence) {
+        return String.format("%024x", sequence);
+    }
+
+    private static List<String> ids(List<Message> messages) {
+        return messages.stream().map(Message::getId).toList();
+    }
+}
@@ -0,0 +1,130 @@
+package server.cubeTalk.chat.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import server.cubeTalk.chat.handler.ChatRoomStateCache;
+import server.cubeTalk.chat.model.entity.Participant;
+import server.cubeTalk.common.util.RandomNicknameGenerator;
+import server.cubeTalk.member.model.entity.Member;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NicknameReservationServiceTest {
+
+    private static final String ROOM_ID = "room";
+    private static final String MEMBER_ID = "member";
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private ChatRoomStateCache chatRoomStateCache;
+
+    @InjectMocks
+    private NicknameReservationService nicknameReservationService;
+
+    @Test
+    @DisplayName("형용사 + 명사 조합은 모두 서로 다른 닉네임이다")
+    void combinationsAreUnique() {
+        Set<String> nicknames = new HashSet<>();
+        for (int i = 0; i < RandomNicknameGenerator.combinations(); i++) {
+            nicknames.add(RandomNicknameGenerator.nicknameAt(i));
+        }
+
+        assertThat(nicknames).hasSize(RandomNicknameGenerator.combinations());
+    }
+
+    @Test
+    @DisplayName("이미 사용중인 닉네임이면 예약하지 않는다")
+    void reserveReturnsFalseOnDuplicate() {
+        when(mongoTemplate.insert(any(Member.class))).thenThrow(new DuplicateKeyException("duplicate"));
+
+        assertThat(nicknameReservationService.reserve(ROOM_ID, MEMBER_ID, "닉네임")).isFalse();
+    }
+
+    @Test
+    @DisplayName("채팅방 참가자가 사용중인 닉네임은 고르지 않는다")
+    void skipsCachedNickNames() {
+        String free = RandomNicknameGenerator.nicknameAt(5);
+        givenTaken(allCombinationsExcept(free));
+
+        assertThat(nicknameReservationService.reserveRandom(ROOM_ID, MEMBER_ID)).isEqualTo(free);
+    }
+
+    @Test
+    @DisplayName("모든 조합이 사용중이면 숫자를 붙인다")
+    void appendsSuffixWhenAllCombinationsTaken() {
+        givenTaken(allCombinationsExcept(null));
+
+        String nickName = nicknameReservationService.reserveRandom(ROOM_ID, MEMBER_ID);
+
+        assertThat(nickName).endsWith("2");
+        assertThat(allCombinationsExcept(null)).contains(nickName.substring(0, nickName.length() - 1));
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 먼저 예약한 닉네임이면 다른 닉네임으로 다시 시도한다")
+    void retriesWithAnotherCandidateOnConflict() {
+        givenTaken(Set.of());
+        when(mongoTemplate.insert(any(Member.class)))
+                .thenThrow(new DuplicateKeyException("duplicate"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        String nickName = nicknameReservationService.reserveRandom(ROOM_ID, MEMBER_ID);
+
+        ArgumentCaptor<Member> captor = ArgumentCaptor.forClass(Member.class);
+        verify(mongoTemplate, times(2)).insert(captor.capture());
+        List<Object> attempts = captor.getAllValues().stream()
+                .map(member -> ReflectionTestUtils.getField(member, "nickName"))
+                .toList();
+        assertThat(attempts.get(0)).isNotEqualTo(attempts.get(1));
+        assertThat(nickName).isEqualTo(attempts.get(1));
+    }
+
+    @Test
+    @DisplayName("계속 충돌하면 정해진 횟수만큼만 시도하고 실패한다")
+    void failsAfterMaxAttempts() {
+        givenTaken(Set.of());
+        when(mongoTemplate.insert(any(Member.class))).thenThrow(new DuplicateKeyException("duplicate"));
+
+        assertThatThrownBy(() -> nicknameReservationService.reserveRandom(ROOM_ID, MEMBER_ID))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(mongoTemplate, times(10)).insert(any(Member.class));
+    }
+
+    private void givenTaken(Set<String> nickNames) {
+        Map<String, Participant> participants = new HashMap<>();
+        nickNames.forEach(nickName -> participants.put(nickName, Participant.builder().nickName(nickName).build()));
+        when(chatRoomStateCache.get(ROOM_ID)).thenReturn(new ChatRoomStateCache.RoomState(
+                ROOM_ID, "channel", "자유", "CREATED", 0, participants.size(), Map.of(), participants));
+    }
+
+    private Set<String> allCombinationsExcept(String excluded) {
+        Set<String> nickNames = new HashSet<>();
+        for (int i = 0; i < RandomNicknameGenerator.combinations(); i++) {
+            nickNames.add(RandomNicknameGenerator.nicknameAt(i));
+        }
+        nickNames.remove(excluded);
+        return nickNames;
+    }
+}
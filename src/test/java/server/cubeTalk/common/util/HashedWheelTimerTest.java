@@ -0,0 +1,122 @@
+package server.cubeTalk.common.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HashedWheelTimerTest {
+
+    private HashedWheelTimer timer;
+
+    @BeforeEach
+    void setUp() {
+        // 휠 한 바퀴 = 10ms * 4 슬롯 = 40ms
+        timer = new HashedWheelTimer("test-timer", 10, TimeUnit.MILLISECONDS, 4, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        timer.stop();
+    }
+
+    @Test
+    @DisplayName("지연 시간이 지난 뒤에 실행된다")
+    void runsAfterDelay() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        long startedAt = System.nanoTime();
+
+        timer.newTimeout(latch::countDown, 50, TimeUnit.MILLISECONDS);
+
+        assertThat(latch.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isGreaterThanOrEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("휠 한 바퀴보다 긴 지연은 남은 바퀴 수만큼 기다린다")
+    void waitsRemainingRoundsForDelayLongerThanWheel() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        long startedAt = System.nanoTime();
+
+        timer.newTimeout(latch::countDown, 130, TimeUnit.MILLISECONDS);
+
+        assertThat(latch.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isGreaterThanOrEqualTo(130);
+    }
+
+    @Test
+    @DisplayName("취소된 작업은 실행되지 않는다")
+    void cancelledTimeoutIsNotRun() throws InterruptedException {
+        AtomicBoolean executed = new AtomicBoolean(false);
+        CountDownLatch after = new CountDownLatch(1);
+
+        HashedWheelTimer.Timeout timeout = timer.newTimeout(() -> executed.set(true), 30, TimeUnit.MILLISECONDS);
+        assertThat(timeout.cancel()).isTrue();
+        assertThat(timeout.isCancelled()).isTrue();
+        timer.newTimeout(after::countDown, 80, TimeUnit.MILLISECONDS);
+
+        assertThat(after.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(executed).isFalse();
+    }
+
+    @Test
+    @DisplayName("실행된 작업은 취소할 수 없다")
+    void expiredTimeoutCannotBeCancelled() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+
+        HashedWheelTimer.Timeout timeout = timer.newTimeout(latch::countDown, 0, TimeUnit.MILLISECONDS);
+
+        assertThat(latch.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(timeout.cancel()).isFalse();
+    }
+
+    @Test
+    @DisplayName("마감 시각 순서대로 실행된다")
+    void runsInDeadlineOrder() throws InterruptedException {
+        List<Integer> order = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(3);
+
+        timer.newTimeout(() -> { order.add(3); latch.countDown(); }, 90, TimeUnit.MILLISECONDS);
+        timer.newTimeout(() -> { order.add(1); latch.countDown(); }, 10, TimeUnit.MILLISECONDS);
+        timer.newTimeout(() -> { order.add(2); latch.countDown(); }, 50, TimeUnit.MILLISECONDS);
+
+        assertThat(latch.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(order).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    @DisplayName("작업에서 예외가 발생해도 다음 작업은 실행된다")
+    void keepsRunningAfterTaskFailure() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+
+        timer.newTimeout(() -> { throw new IllegalStateException("실패"); }, 0, TimeUnit.MILLISECONDS);
+        timer.newTimeout(latch::countDown, 20, TimeUnit.MILLISECONDS);
+
+        assertThat(latch.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("종료된 타이머에는 등록할 수 없다")
+    void rejectsNewTimeoutAfterStop() {
+        timer.stop();
+
+        assertThatThrownBy(() -> timer.newTimeout(() -> { }, 10, TimeUnit.MILLISECONDS))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("tick 간격은 0보다 커야 한다")
+    void rejectsNonPositiveTickDuration() {
+        assertThatThrownBy(() -> new HashedWheelTimer("invalid", 0, TimeUnit.MILLISECONDS, 4, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}